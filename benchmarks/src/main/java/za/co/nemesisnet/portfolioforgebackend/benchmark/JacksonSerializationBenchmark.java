@@ -0,0 +1,89 @@
+package za.co.nemesisnet.portfolioforgebackend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.PortfolioDTO;
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.ProjectDTO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response serialization with an ObjectMapper configured the way Spring MVC configures its own
+ * (JavaTimeModule, dates as ISO strings). The writers are resolved once, as the message converter does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JacksonSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private ObjectWriter portfolioListWriter;
+    private ObjectWriter projectListWriter;
+    private List<PortfolioDTO> portfolios;
+    private List<ProjectDTO> projects;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        portfolioListWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, PortfolioDTO.class));
+        projectListWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, ProjectDTO.class));
+
+        portfolios = new ArrayList<>(size);
+        projects = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            PortfolioDTO portfolio = new PortfolioDTO();
+            portfolio.setAboutMeText("Backend developer number " + i + " who enjoys making things fast.");
+            portfolio.setResumeUrl("https://example.com/resume-" + i + ".pdf");
+            portfolio.setLinkedInUrl("https://linkedin.com/in/user" + i);
+            portfolio.setGithubUrl("https://github.com/user" + i);
+            portfolio.setContactEmail("user" + i + "@example.com");
+            portfolio.setPublicSlug("user-" + i);
+            portfolio.setLastUpdatedAt(LocalDateTime.now());
+            portfolios.add(portfolio);
+
+            ProjectDTO project = new ProjectDTO();
+            project.setTitle("Project " + i);
+            project.setDescription("A description of project " + i + " long enough to look realistic.");
+            project.setTechnologies("Java, Spring Boot, MySQL");
+            project.setImageUrl("https://example.com/images/" + i + ".png");
+            project.setLiveUrl("https://example.com/projects/" + i);
+            project.setRepoUrl("https://github.com/bench/project-" + i);
+            project.setDisplayOrder(i);
+            projects.add(project);
+        }
+    }
+
+    @Benchmark
+    public byte[] portfolios() throws JsonProcessingException {
+        return portfolioListWriter.writeValueAsBytes(portfolios);
+    }
+
+    @Benchmark
+    public byte[] projects() throws JsonProcessingException {
+        return projectListWriter.writeValueAsBytes(projects);
+    }
+}
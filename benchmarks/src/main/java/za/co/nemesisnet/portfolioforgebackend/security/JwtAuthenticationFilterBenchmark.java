@@ -0,0 +1,81 @@
+package za.co.nemesisnet.portfolioforgebackend.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+import za.co.nemesisnet.portfolioforgebackend.service.TokenRevocationService;
+import za.co.nemesisnet.portfolioforgebackend.service.UserDetailsImpl;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One authenticated request through {@link JwtAuthenticationFilter}, including the per-request logging.
+ * The user lookup and revocation check are in-memory stubs, so the numbers show the filter's own CPU
+ * and allocation cost rather than database latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"false", "true"})
+    private boolean statelessAuth;
+
+    private JwtAuthenticationFilter filter;
+    private String authorizationHeader;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtTokenProvider tokenProvider = JwtTokenProviderBenchmark.newTokenProvider(10_000);
+        UserDetailsImpl principal = new UserDetailsImpl(1L, "bench", "x", "ROLE_USER", 0);
+        UserDetailsService userDetailsService = username -> principal;
+        TokenRevocationService tokenRevocationService = new TokenRevocationService() {
+            @Override
+            public boolean isTokenVersionCurrent(Long userId, int tokenVersion) {
+                return true;
+            }
+
+            @Override
+            public void revokeAllTokens(Long userId) {
+            }
+        };
+
+        filter = new JwtAuthenticationFilter(tokenProvider, userDetailsService, tokenRevocationService,
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filter, "statelessAuth", statelessAuth);
+        authorizationHeader = "Bearer " + tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @Benchmark
+    public Object authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/me/portfolio");
+        request.addHeader("Authorization", authorizationHeader);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext(); // Each invocation starts unauthenticated, like a new request
+        }
+    }
+}
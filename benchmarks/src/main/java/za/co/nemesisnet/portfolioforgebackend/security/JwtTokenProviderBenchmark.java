@@ -0,0 +1,72 @@
+package za.co.nemesisnet.portfolioforgebackend.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+import za.co.nemesisnet.portfolioforgebackend.service.UserDetailsImpl;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuing and verification. With {@code verifiedCacheMaxEntries=0} every validation parses the
+ * token and checks the HS512 signature; with the default size repeat validations are cache hits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    @Param({"0", "10000"})
+    private long verifiedCacheMaxEntries;
+
+    private JwtTokenProvider tokenProvider;
+    private Authentication authentication;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tokenProvider = newTokenProvider(verifiedCacheMaxEntries);
+        UserDetailsImpl principal = new UserDetailsImpl(1L, "bench", "x", "ROLE_USER", 0);
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        token = tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    // Same wiring Spring does: @Value fields, then the @PostConstruct
+    static JwtTokenProvider newTokenProvider(long verifiedCacheMaxEntries) {
+        byte[] secret = new byte[64]; // HS512 needs at least 512 bits
+        new SecureRandom().nextBytes(secret);
+        JwtTokenProvider tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", Base64.getEncoder().encodeToString(secret));
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationMs", 3_600_000);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedCacheMaxEntries", verifiedCacheMaxEntries);
+        tokenProvider.init();
+        return tokenProvider;
+    }
+}
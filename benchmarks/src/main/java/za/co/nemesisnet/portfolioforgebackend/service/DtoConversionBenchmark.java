@@ -0,0 +1,100 @@
+package za.co.nemesisnet.portfolioforgebackend.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import za.co.nemesisnet.portfolioforgebackend.domain.Portfolio;
+import za.co.nemesisnet.portfolioforgebackend.domain.Project;
+import za.co.nemesisnet.portfolioforgebackend.domain.Skill;
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.PortfolioDTO;
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.ProjectDTO;
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.SkillDTO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping as done for every portfolio, project list and skill list response.
+ * The services are built without repositories; only their converters are exercised.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoConversionBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private PortfolioServiceImpl portfolioService;
+    private ProjectServiceImpl projectService;
+    private SkillServiceImpl skillService;
+
+    private Portfolio portfolio;
+    private List<Project> projects;
+    private List<Skill> skills;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        portfolioService = new PortfolioServiceImpl(null, null, null, null);
+        projectService = new ProjectServiceImpl(null, null, null);
+        skillService = new SkillServiceImpl(null, null, null);
+
+        portfolio = new Portfolio();
+        portfolio.setAboutMeText("Backend developer who enjoys making things fast. ".repeat(10));
+        portfolio.setResumeUrl("https://example.com/resume.pdf");
+        portfolio.setLinkedInUrl("https://linkedin.com/in/bench");
+        portfolio.setGithubUrl("https://github.com/bench");
+        portfolio.setContactEmail("bench@example.com");
+        portfolio.setPublicSlug("bench");
+        portfolio.setLastUpdatedAt(LocalDateTime.now());
+
+        projects = new ArrayList<>(size);
+        skills = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Project project = new Project();
+            project.setTitle("Project " + i);
+            project.setDescription("A description of project " + i + " long enough to look realistic.");
+            project.setTechnologies("Java, Spring Boot, MySQL");
+            project.setImageUrl("https://example.com/images/" + i + ".png");
+            project.setLiveUrl("https://example.com/projects/" + i);
+            project.setRepoUrl("https://github.com/bench/project-" + i);
+            project.setDisplayOrder(i);
+            projects.add(project);
+
+            Skill skill = new Skill();
+            skill.setName("Skill " + i);
+            skill.setCategory(i % 2 == 0 ? "Backend" : "Frontend");
+            skill.setIcon("icon-" + i);
+            skills.add(skill);
+        }
+    }
+
+    @Benchmark
+    public PortfolioDTO portfolio() {
+        return portfolioService.convertToDTO(portfolio);
+    }
+
+    @Benchmark
+    public List<ProjectDTO> projects() {
+        return projects.stream().map(projectService::convertToDto).toList();
+    }
+
+    @Benchmark
+    public List<SkillDTO> skills() {
+        return skills.stream().map(skillService::convertToDto).toList();
+    }
+}
@@ -0,0 +1,104 @@
+package za.co.nemesisnet.portfolioforgebackend.config;
+
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import za.co.nemesisnet.portfolioforgebackend.domain.CacheRegions;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hibernate second-level cache backed by Caffeine through JCache. Portfolio, Project and Skill entities
+ * are cached by id, and the per-user list queries are cached in their own query regions, so reading an
+ * unchanged portfolio needs no SQL at all. Any insert/update/delete on a table invalidates the cached
+ * query results for that table (update-timestamps region), so lists are never stale after a write.
+ * Each region's size and TTL come from portfolioforge.l2-cache.&lt;region&gt;.max-size / .ttl-ms.
+ * Hit/miss/put counts per region are published by Hibernate's statistics (hibernate.second.level.cache.*),
+ * evictions and removals by the cache.* meters registered here. Region names are defined in {@link CacheRegions}.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(HibernateCacheConfig.class);
+
+    // Hibernate's own regions. Update timestamps must outlive every cached query, so they never expire.
+    private static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    private static final AtomicInteger CACHE_MANAGER_IDS = new AtomicInteger();
+
+    private record RegionSpec(long defaultMaxSize, long defaultTtlMs) {}
+
+    private static final Map<String, RegionSpec> REGIONS = new LinkedHashMap<>();
+
+    static {
+        REGIONS.put(CacheRegions.PORTFOLIOS, new RegionSpec(10_000, TimeUnit.MINUTES.toMillis(30)));
+        REGIONS.put(CacheRegions.PROJECTS, new RegionSpec(100_000, TimeUnit.MINUTES.toMillis(30)));
+        REGIONS.put(CacheRegions.SKILLS, new RegionSpec(100_000, TimeUnit.MINUTES.toMillis(30)));
+        REGIONS.put(CacheRegions.PORTFOLIO_QUERIES, new RegionSpec(10_000, TimeUnit.MINUTES.toMillis(10)));
+        REGIONS.put(CacheRegions.PROJECT_QUERIES, new RegionSpec(10_000, TimeUnit.MINUTES.toMillis(10)));
+        REGIONS.put(CacheRegions.SKILL_QUERIES, new RegionSpec(10_000, TimeUnit.MINUTES.toMillis(10)));
+        REGIONS.put(DEFAULT_QUERY_RESULTS, new RegionSpec(1_000, TimeUnit.MINUTES.toMillis(10)));
+        REGIONS.put(UPDATE_TIMESTAMPS, new RegionSpec(1_000, 0));
+    }
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(Environment environment) {
+        // A manager per application context: test suites keep several contexts alive in one JVM
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        URI uri = URI.create("portfolioforge:hibernate-" + CACHE_MANAGER_IDS.incrementAndGet());
+        CacheManager cacheManager = provider.getCacheManager(uri, getClass().getClassLoader());
+        REGIONS.forEach((region, spec) -> {
+            long maxSize = environment.getProperty("portfolioforge.l2-cache." + region + ".max-size", Long.class, spec.defaultMaxSize());
+            long ttlMs = environment.getProperty("portfolioforge.l2-cache." + region + ".ttl-ms", Long.class, spec.defaultTtlMs());
+
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setStoreByValue(false); // Hibernate caches disassembled state, so entries need no copying
+            configuration.setStatisticsEnabled(true);
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            if (ttlMs > 0) {
+                configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(ttlMs)));
+            }
+            cacheManager.createCache(region, configuration);
+            log.debug("Second-level cache region '{}': max {} entries, TTL {}", region, maxSize, ttlMs > 0 ? ttlMs + " ms" : "none");
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // A region name without a configured cache is a typo; fail at startup instead of creating an unbounded cache
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    @Bean
+    public MeterBinder hibernateCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> {
+            for (String region : REGIONS.keySet()) {
+                Cache<Object, Object> cache = hibernateCacheManager.getCache(region);
+                JCacheMetrics.monitor(registry, cache);
+            }
+        };
+    }
+}
@@ -1,34 +1,81 @@
 package za.co.nemesisnet.portfolioforgebackend.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager; // Keep if needed
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration; // Keep if needed
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy; // Import for Session Policy
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter; // Import this filter class
 import org.springframework.security.web.context.NullSecurityContextRepository;
 import org.springframework.security.web.context.SecurityContextRepository;
+import za.co.nemesisnet.portfolioforgebackend.security.BCryptCostCalibrator;
+import za.co.nemesisnet.portfolioforgebackend.security.BoundedPasswordEncoder;
 import za.co.nemesisnet.portfolioforgebackend.security.JwtAuthenticationEntryPoint; // Import EntryPoint (Create next)
 import za.co.nemesisnet.portfolioforgebackend.security.JwtAuthenticationFilter; // Import our filter
+import za.co.nemesisnet.portfolioforgebackend.security.RateLimitFilter;
+import za.co.nemesisnet.portfolioforgebackend.security.TunableBCryptPasswordEncoder;
 import lombok.RequiredArgsConstructor; // If using constructor injection for filter/entrypoint
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor // Add if injecting filter/entryPoint via constructor
 public class SecurityConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtAuthenticationEntryPoint authenticationEntryPoint;
+    private final RateLimitFilter rateLimitFilter;
 
+    // Hashes are stored as "{bcrypt}$2a$<cost>$..." so the algorithm and cost are recorded per hash.
+    // BCrypt runs on its own bounded pool so login/registration bursts can't tie up every Tomcat worker.
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${portfolioforge.security.bcrypt.strength:10}") int strength,
+                                           @Value("${portfolioforge.security.bcrypt.calibrate:false}") boolean calibrate,
+                                           @Value("${portfolioforge.security.bcrypt.target-verify-ms:250}") long targetVerifyMs,
+                                           @Value("${portfolioforge.security.bcrypt.min-strength:10}") int minStrength,
+                                           @Value("${portfolioforge.security.bcrypt.max-strength:14}") int maxStrength,
+                                           @Value("${portfolioforge.security.password-hashing.threads:0}") int threads,
+                                           @Value("${portfolioforge.security.password-hashing.queue-capacity:32}") int queueCapacity,
+                                           @Value("${portfolioforge.security.password-hashing.wait-timeout-ms:2000}") long waitTimeoutMs) {
+        int targetStrength = calibrate ? BCryptCostCalibrator.calibrate(targetVerifyMs, minStrength, maxStrength) : strength;
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", new TunableBCryptPasswordEncoder(targetStrength));
+        DelegatingPasswordEncoder delegatingEncoder = new DelegatingPasswordEncoder("bcrypt", encoders);
+        // Hashes created before the "{id}" prefix was introduced are plain BCrypt; they still verify,
+        // and upgradeEncoding() reports them so they are rewritten with the prefix on next login
+        delegatingEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+
+        // 0 = half the cores (at least one), leaving the rest for request handling
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(delegatingEncoder, poolSize, queueCapacity, waitTimeoutMs, meterRegistry);
     }
 
     @Bean
@@ -44,7 +91,53 @@ public class SecurityConfig {
     }
 
 
+    /**
+     * Separate chain for the Actuator endpoints, checked before the API chain. Health stays public for
+     * load balancers; everything else (metrics, prometheus) needs HTTP Basic credentials of a dedicated
+     * scrape account, so monitoring never depends on user JWTs, the users table or the BCrypt pool.
+     * Without a configured password (ACTUATOR_PASSWORD) there is no scrape account and those endpoints are denied.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http,
+                                                   @Value("${portfolioforge.actuator.username:actuator}") String username,
+                                                   @Value("${portfolioforge.actuator.password:}") String password) throws Exception {
+        http
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .formLogin(AbstractHttpConfigurer::disable);
+
+        if (password.isBlank()) {
+            log.warn("ACTUATOR_PASSWORD is not set: Actuator endpoints other than health are disabled");
+            http
+                    .authorizeHttpRequests(authorize -> authorize
+                            .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                            .anyRequest().denyAll()
+                    )
+                    .httpBasic(AbstractHttpConfigurer::disable);
+            return http.build();
+        }
+
+        // Not a bean: a second UserDetailsService bean would stop Boot from wiring CustomUserDetailsService
+        DaoAuthenticationProvider scrapeAccount = new DaoAuthenticationProvider();
+        scrapeAccount.setPasswordEncoder(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        scrapeAccount.setUserDetailsService(new InMemoryUserDetailsManager(
+                User.withUsername(username).password(password).roles("ACTUATOR").build()));
+
+        http
+                .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                        .anyRequest().hasRole("ACTUATOR")
+                )
+                .authenticationManager(new ProviderManager(scrapeAccount))
+                .httpBasic(Customizer.withDefaults());
+
+        return http.build();
+    }
+
     @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http, SecurityContextRepository securityContextRepository) throws Exception { // Inject the repository
         http
                 .csrf(AbstractHttpConfigurer::disable)
@@ -64,6 +157,11 @@ public class SecurityConfig {
                 )
 
                 .authorizeHttpRequests(authorize -> authorize
+                        // The ASYNC dispatch that completes a streamed response (e.g. GET /api/v1/me/projects/bulk)
+                        // only finishes a request already authorized on its REQUEST dispatch; the context isn't
+                        // stored anywhere (stateless), so it would otherwise be rejected mid-response
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/v1/auth/logout-all").authenticated()
                         // Public endpoints
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         .requestMatchers("/api/v1/portfolios/**").permitAll()
@@ -78,6 +176,8 @@ public class SecurityConfig {
                 .formLogin(AbstractHttpConfigurer::disable);
 
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        // Throttle public write endpoints before any token parsing or user lookup happens
+        http.addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
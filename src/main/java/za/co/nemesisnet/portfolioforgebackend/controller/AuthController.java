@@ -5,11 +5,16 @@ import jakarta.validation.Valid; // For validating request body
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import za.co.nemesisnet.portfolioforgebackend.domain.dto.AuthResponseDto;
 import za.co.nemesisnet.portfolioforgebackend.domain.dto.LoginDto;
 import za.co.nemesisnet.portfolioforgebackend.domain.dto.RegisterDto;
+import za.co.nemesisnet.portfolioforgebackend.exception.ServiceOverloadedException;
+import za.co.nemesisnet.portfolioforgebackend.security.RateLimitService;
 import za.co.nemesisnet.portfolioforgebackend.service.AuthService;
+import za.co.nemesisnet.portfolioforgebackend.service.TokenRevocationService;
+import za.co.nemesisnet.portfolioforgebackend.service.UserDetailsImpl;
 
 @RestController
 @RequestMapping("/api/v1/auth") // Base path for auth endpoints
@@ -18,6 +23,8 @@ import za.co.nemesisnet.portfolioforgebackend.service.AuthService;
 public class AuthController {
 
     private final AuthService authService;
+    private final RateLimitService rateLimitService;
+    private final TokenRevocationService tokenRevocationService;
 
     // POST /api/v1/auth/register
     @PostMapping("/register")
@@ -26,6 +33,8 @@ public class AuthController {
             String responseMessage = authService.registerUser(registerDto);
             // Return 201 Created for successful registration
             return ResponseEntity.status(HttpStatus.CREATED).body(responseMessage);
+        } catch (ServiceOverloadedException e) {
+            throw e; // Hashing pool saturated: let GlobalExceptionHandler answer 503 with Retry-After
         } catch (RuntimeException e) {
             // Catch potential exceptions (like username/email exists)
             // Consider a global exception handler (@ControllerAdvice) later for cleaner error handling
@@ -38,9 +47,25 @@ public class AuthController {
     public ResponseEntity<AuthResponseDto> loginUser(@Valid @RequestBody LoginDto loginDto) {
         // AuthenticationManager handles BadCredentialsException if login fails
         // We might want a @ControllerAdvice to handle that globally later
+        // Per-IP limits are enforced by RateLimitFilter; the per-account limit needs the parsed body.
+        // Throws RateLimitExceededException (429) before any BCrypt work is done.
+        rateLimitService.checkLoginUsername(loginDto.getUsernameOrEmail());
         AuthResponseDto authResponse = authService.loginUser(loginDto);
         return ResponseEntity.ok(authResponse);
     }
+
+    // POST /api/v1/auth/logout-all
+    // Revokes every token issued to the current user, including the one on this request.
+    // In stateless mode other nodes notice within the token-version cache TTL.
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutEverywhere(Authentication authentication) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetailsImpl currentUser)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        tokenRevocationService.revokeAllTokens(currentUser.getId());
+        return ResponseEntity.noContent().build();
+    }
+
     //get all users
     @GetMapping("/all")
     public ResponseEntity<?> getAllUsers() {
@@ -5,19 +5,25 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.BulkReadStatusUpdateRequestDTO;
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.ContactMessagePageDTO;
 import za.co.nemesisnet.portfolioforgebackend.domain.dto.ContactMessageRequestDTO;
 import za.co.nemesisnet.portfolioforgebackend.domain.dto.ContactMessageResponseDTO;
 import za.co.nemesisnet.portfolioforgebackend.domain.dto.UpdateReadStatusRequestDTO;
 import za.co.nemesisnet.portfolioforgebackend.exception.ResourceNotFoundException;
+import za.co.nemesisnet.portfolioforgebackend.exception.ServiceOverloadedException;
+import za.co.nemesisnet.portfolioforgebackend.service.ContactMessageIngestionService;
 import za.co.nemesisnet.portfolioforgebackend.service.ContactMessageService;
 import za.co.nemesisnet.portfolioforgebackend.service.UserDetailsImpl;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -26,6 +32,7 @@ import java.util.List;
 public class ContactMessageController {
 
     private final ContactMessageService contactMessageService;
+    private final ContactMessageIngestionService contactMessageIngestionService;
     private static final Logger log = LoggerFactory.getLogger(ContactMessageController.class);
 
     // --- Public Endpoint ---
@@ -36,17 +43,20 @@ public class ContactMessageController {
      *
      * @param slugOrUsername The public slug or username of the recipient portfolio/user.
      * @param messageRequestDTO The message details from the contact form.
-     * @return 201 Created on success, 404 Not Found if recipient doesn't exist, 400 Bad Request on validation error.
+     * @return 201 Created on success (202 Accepted when queued for asynchronous ingestion), 503 if the queue is full, 404 Not Found if recipient doesn't exist, 400 Bad Request on validation error.
      */
     @PostMapping("/api/v1/portfolios/{slugOrUsername}/contact")
     public ResponseEntity<?> submitContactMessage(
             @PathVariable String slugOrUsername,
             @Valid @RequestBody ContactMessageRequestDTO messageRequestDTO) {
 
-        log.info("Received contact message submission for recipient identifier: {}", slugOrUsername);
+        log.debug("Received contact message submission for recipient identifier: {}", slugOrUsername);
         try {
-            // Service method handles finding the recipient and saving
-            contactMessageService.saveMessage(slugOrUsername, messageRequestDTO);
+            // Saved immediately, or queued for a batched background write when async ingestion is enabled
+            boolean queued = contactMessageIngestionService.submit(slugOrUsername, messageRequestDTO);
+            if (queued) {
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body("Message accepted for delivery.");
+            }
             // Return a simple success message or the created DTO if preferred
             return ResponseEntity.status(HttpStatus.CREATED).body("Message sent successfully.");
             // Or return the DTO:
@@ -56,6 +66,10 @@ public class ContactMessageController {
         } catch (ResourceNotFoundException e) {
             log.warn("Failed to send message: Recipient '{}' not found.", slugOrUsername);
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (ServiceOverloadedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(e.getMessage());
         } catch (Exception e) {
             log.error("Error submitting contact message for recipient '{}': {}", slugOrUsername, e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An error occurred while sending the message.");
@@ -71,12 +85,40 @@ public class ContactMessageController {
     public ResponseEntity<List<ContactMessageResponseDTO>> getMyMessages(Authentication authentication) {
         UserDetailsImpl currentUser = getUserDetails(authentication);
         if (currentUser == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        log.info("Fetching contact messages for user ID: {}", currentUser.getId());
+        log.debug("Fetching contact messages for user ID: {}", currentUser.getId());
 
         List<ContactMessageResponseDTO> messages = contactMessageService.getMessagesForUser(currentUser.getId());
         return ResponseEntity.ok(messages);
     }
 
+    /**
+     * GET /api/v1/me/contact-messages/summary : Get one page of message summaries (no body), newest first.
+     * Pass the returned nextCursor as ?cursor= to fetch the next page.
+     */
+    @GetMapping("/api/v1/me/contact-messages/summary")
+    public ResponseEntity<ContactMessagePageDTO> getMyMessageSummaries(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        UserDetailsImpl currentUser = getUserDetails(authentication);
+        if (currentUser == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        log.debug("Fetching contact message summaries for user ID: {}", currentUser.getId());
+
+        return ResponseEntity.ok(contactMessageService.getMessageSummariesForUser(currentUser.getId(), cursor, limit));
+    }
+
+    /**
+     * GET /api/v1/me/contact-messages/unread-count : Get the number of unread messages for the logged-in user.
+     */
+    @GetMapping("/api/v1/me/contact-messages/unread-count")
+    public ResponseEntity<Map<String, Long>> getMyUnreadMessageCount(Authentication authentication) {
+        UserDetailsImpl currentUser = getUserDetails(authentication);
+        if (currentUser == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        return ResponseEntity.ok(Map.of("unreadCount", contactMessageService.countUnreadMessagesForUser(currentUser.getId())));
+    }
+
     /**
      * GET /api/v1/me/contact-messages/{messageId} : Get a specific message by ID received by the logged-in user.
      */
@@ -87,7 +129,7 @@ public class ContactMessageController {
 
         UserDetailsImpl currentUser = getUserDetails(authentication);
         if (currentUser == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        log.info("Fetching contact message ID {} for user ID: {}", messageId, currentUser.getId());
+        log.debug("Fetching contact message ID {} for user ID: {}", messageId, currentUser.getId());
 
         return contactMessageService.getMessageByIdForUser(messageId, currentUser.getId())
                 .map(ResponseEntity::ok)
@@ -109,13 +151,30 @@ public class ContactMessageController {
 
         // --- CORRECTION HERE ---
         // Use the getter generated by Lombok for the Boolean field
-        log.info("Updating read status to {} for message ID {} for user ID: {}", readStatusDto.getIsRead(), messageId, currentUser.getId());
+        log.debug("Updating read status to {} for message ID {} for user ID: {}", readStatusDto.getIsRead(), messageId, currentUser.getId());
 
         return contactMessageService.updateMessageReadStatus(messageId, currentUser.getId(), readStatusDto.getIsRead()) // <<< USE getIsRead()
                 .map(ResponseEntity::ok) // Return updated message DTO on success
                 .orElse(ResponseEntity.notFound().build()); // Return 404 if message not found for user
     }
 
+    /**
+     * PATCH /api/v1/me/contact-messages : Update the read status of many messages in one request.
+     * Select messages either by "messageIds" or by "submittedOnOrBefore" (e.g. "mark all as read").
+     * Returns the number of messages whose status changed.
+     */
+    @PatchMapping("/api/v1/me/contact-messages")
+    public ResponseEntity<Map<String, Integer>> updateMyMessagesReadStatus(
+            Authentication authentication,
+            @Valid @RequestBody BulkReadStatusUpdateRequestDTO bulkRequestDto) {
+
+        UserDetailsImpl currentUser = getUserDetails(authentication);
+        if (currentUser == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        log.debug("Bulk-updating read status to {} for user ID: {}", bulkRequestDto.getIsRead(), currentUser.getId());
+
+        int updated = contactMessageService.updateReadStatusInBulk(currentUser.getId(), bulkRequestDto);
+        return ResponseEntity.ok(Map.of("updatedCount", updated));
+    }
 
     // --- Helper Method ---
     private UserDetailsImpl getUserDetails(Authentication authentication) {
@@ -48,7 +48,7 @@ public class PortfolioController {
 
         // Cast is now safe
         UserDetailsImpl currentUser = (UserDetailsImpl) principal;
-        log.info("getMyPortfolio: Processing request for user ID: {}", currentUser.getId());
+        log.debug("getMyPortfolio: Processing request for user ID: {}", currentUser.getId());
 
         return portfolioService.getPortfolioByUserId(currentUser.getId())
                 .map(ResponseEntity::ok)
@@ -82,7 +82,7 @@ public class PortfolioController {
 
         // Cast is now safe
         UserDetailsImpl currentUser = (UserDetailsImpl) principal;
-        log.info("updateMyPortfolio: Processing request for user ID: {}", currentUser.getId());
+        log.debug("updateMyPortfolio: Processing request for user ID: {}", currentUser.getId());
 
 
         try {
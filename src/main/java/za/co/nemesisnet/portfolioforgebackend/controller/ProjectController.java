@@ -1,21 +1,29 @@
 package za.co.nemesisnet.portfolioforgebackend.controller;
 
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.BulkImportResultDTO;
 import za.co.nemesisnet.portfolioforgebackend.domain.dto.ProjectDTO;
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.ProjectOrderRequestDTO;
 import za.co.nemesisnet.portfolioforgebackend.exception.ResourceNotFoundException;
+import za.co.nemesisnet.portfolioforgebackend.service.BulkContentService;
 import za.co.nemesisnet.portfolioforgebackend.service.ProjectService;
 import za.co.nemesisnet.portfolioforgebackend.service.UserDetailsImpl;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -25,6 +33,7 @@ import java.util.Optional;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final BulkContentService bulkContentService;
     private static final Logger log = LoggerFactory.getLogger(ProjectController.class);
 
     /**
@@ -34,7 +43,7 @@ public class ProjectController {
     public ResponseEntity<List<ProjectDTO>> getMyProjects(Authentication authentication) {
         UserDetailsImpl currentUser = getUserDetails(authentication);
         if (currentUser == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        log.info("Fetching projects for user ID: {}", currentUser.getId());
+        log.debug("Fetching projects for user ID: {}", currentUser.getId());
 
         List<ProjectDTO> projects = projectService.findAllByUserId(currentUser.getId());
         return ResponseEntity.ok(projects);
@@ -48,7 +57,7 @@ public class ProjectController {
                                                       @Valid @RequestBody ProjectDTO projectDTO) {
         UserDetailsImpl currentUser = getUserDetails(authentication);
         if (currentUser == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        log.info("Creating project for user ID: {}", currentUser.getId());
+        log.debug("Creating project for user ID: {}", currentUser.getId());
 
         ProjectDTO createdProject = projectService.createProject(currentUser.getId(), projectDTO);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdProject);
@@ -62,7 +71,7 @@ public class ProjectController {
                                                        @PathVariable Long projectId) {
         UserDetailsImpl currentUser = getUserDetails(authentication);
         if (currentUser == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        log.info("Fetching project ID: {} for user ID: {}", projectId, currentUser.getId());
+        log.debug("Fetching project ID: {} for user ID: {}", projectId, currentUser.getId());
 
         return projectService.findByIdAndUserId(projectId, currentUser.getId())
                 .map(ResponseEntity::ok)
@@ -78,7 +87,7 @@ public class ProjectController {
                                                       @Valid @RequestBody ProjectDTO projectDTO) {
         UserDetailsImpl currentUser = getUserDetails(authentication);
         if (currentUser == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        log.info("Updating project ID: {} for user ID: {}", projectId, currentUser.getId());
+        log.debug("Updating project ID: {} for user ID: {}", projectId, currentUser.getId());
 
         Optional<ProjectDTO> updatedProject = projectService.updateProject(projectId, currentUser.getId(), projectDTO);
 
@@ -87,6 +96,22 @@ public class ProjectController {
                 .orElse(ResponseEntity.notFound().build()); // Or handle error differently if needed
     }
 
+    /**
+     * PATCH /api/v1/me/projects/order : Reorder all of the logged-in user's projects at once.
+     * The body lists every project ID in the new display order. Only projects whose position changed
+     * are written, as one batched UPDATE round trip. Returns the number of projects that moved.
+     */
+    @PatchMapping("/order")
+    public ResponseEntity<Map<String, Integer>> reorderMyProjects(Authentication authentication,
+                                                                  @Valid @RequestBody ProjectOrderRequestDTO orderRequestDto) {
+        UserDetailsImpl currentUser = getUserDetails(authentication);
+        if (currentUser == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        log.debug("Reordering {} projects for user ID: {}", orderRequestDto.getProjectIds().size(), currentUser.getId());
+
+        int updated = projectService.reorderProjects(currentUser.getId(), orderRequestDto.getProjectIds());
+        return ResponseEntity.ok(Map.of("updatedCount", updated));
+    }
+
     /**
      * DELETE /api/v1/me/projects/{projectId} : Delete a specific project by ID for the logged-in user.
      */
@@ -95,7 +120,7 @@ public class ProjectController {
                                                 @PathVariable Long projectId) {
         UserDetailsImpl currentUser = getUserDetails(authentication);
         if (currentUser == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        log.info("Deleting project ID: {} for user ID: {}", projectId, currentUser.getId());
+        log.debug("Deleting project ID: {} for user ID: {}", projectId, currentUser.getId());
 
         try {
             projectService.deleteProject(projectId, currentUser.getId());
@@ -109,6 +134,37 @@ public class ProjectController {
         }
     }
 
+    /**
+     * GET /api/v1/me/projects/bulk : Export all of the logged-in user's projects as a JSON array.
+     * Streamed row by row from the database, so memory use doesn't grow with the number of projects.
+     */
+    @GetMapping(value = "/bulk", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportMyProjects(Authentication authentication) {
+        UserDetailsImpl currentUser = getUserDetails(authentication);
+        if (currentUser == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        log.debug("Exporting projects for user ID: {}", currentUser.getId());
+
+        Long userId = currentUser.getId(); // Written after this method returns, on an async thread
+        StreamingResponseBody body = out -> bulkContentService.exportProjects(userId, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * POST /api/v1/me/projects/bulk : Import a JSON array of projects for the logged-in user.
+     * The body is parsed as it arrives and inserted in JDBC batches, all in one transaction.
+     * Returns 201 with the number of projects created; 400 if the JSON or any item is invalid.
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportResultDTO> importMyProjects(Authentication authentication,
+                                                               HttpServletRequest request) throws IOException {
+        UserDetailsImpl currentUser = getUserDetails(authentication);
+        if (currentUser == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        log.debug("Importing projects for user ID: {}", currentUser.getId());
+
+        BulkImportResultDTO result = bulkContentService.importProjects(currentUser.getId(), request.getInputStream());
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
     // Helper method to extract UserDetailsImpl safely
     private UserDetailsImpl getUserDetails(Authentication authentication) {
         if (authentication == null || !authentication.isAuthenticated() || !(authentication.getPrincipal() instanceof UserDetailsImpl)) {
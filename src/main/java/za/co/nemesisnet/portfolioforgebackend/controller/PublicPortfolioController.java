@@ -4,19 +4,15 @@ package za.co.nemesisnet.portfolioforgebackend.controller;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import za.co.nemesisnet.portfolioforgebackend.domain.dto.PortfolioDTO;
-import za.co.nemesisnet.portfolioforgebackend.domain.dto.ProjectDTO;
-import za.co.nemesisnet.portfolioforgebackend.domain.dto.SkillDTO;
-import za.co.nemesisnet.portfolioforgebackend.service.PortfolioService;
-import za.co.nemesisnet.portfolioforgebackend.service.ProjectService;
-import za.co.nemesisnet.portfolioforgebackend.service.SkillService;
-
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
+import za.co.nemesisnet.portfolioforgebackend.service.PublicPortfolioService;
+import za.co.nemesisnet.portfolioforgebackend.service.PublicPortfolioSnapshot;
+import za.co.nemesisnet.portfolioforgebackend.web.EncodedVariant;
 
 @RestController
 @RequestMapping("/api/v1/portfolios") // Base path for public portfolio viewing
@@ -24,27 +20,23 @@ import java.util.Optional;
 // @CrossOrigin(origins = "*") // Allow all origins for public endpoints, or configure specific ones
 public class PublicPortfolioController {
 
-    private final PortfolioService portfolioService;
-    private final ProjectService projectService;
-    private final SkillService skillService;
+    // All public reads are served from the in-memory snapshot, which holds every resource as ready-to-send
+    // JSON bytes (plus Brotli/gzip copies) with a precomputed ETag. A hit is a map lookup and one buffer copy to the
+    // response: no DTO mapping, no Jackson. Spring answers matching If-None-Match requests with 304 on its own.
+    // The response bodies are documented by PortfolioDTO, List<ProjectDTO>, List<SkillDTO> and PublicPortfolioDTO.
+    private final PublicPortfolioService publicPortfolioService;
     private static final Logger log = LoggerFactory.getLogger(PublicPortfolioController.class);
 
     /**
      * GET /api/v1/portfolios/{slugOrUsername} : Get public portfolio details by slug or username.
      */
     @GetMapping("/{slugOrUsername}")
-    public ResponseEntity<PortfolioDTO> getPublicPortfolio(@PathVariable String slugOrUsername) {
-        log.info("Request received for public portfolio with identifier: {}", slugOrUsername);
-        // Try finding by slug first (primary identifier)
-        Optional<PortfolioDTO> portfolioOpt = portfolioService.getPortfolioBySlug(slugOrUsername);
-
-        // TODO Optional: Add fallback to lookup by username if slug not found
-        // if (portfolioOpt.isEmpty()) {
-        //    // logic to find user by username, then get their portfolio by userId
-        // }
+    public ResponseEntity<byte[]> getPublicPortfolio(@PathVariable String slugOrUsername,
+                                                     @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.debug("Request received for public portfolio with identifier: {}", slugOrUsername);
 
-        return portfolioOpt
-                .map(ResponseEntity::ok)
+        return publicPortfolioService.getSnapshot(slugOrUsername)
+                .map(snapshot -> encodedOk(snapshot.portfolio(), acceptEncoding))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -52,40 +44,58 @@ public class PublicPortfolioController {
      * GET /api/v1/portfolios/{slugOrUsername}/projects : Get public projects list by slug or username.
      */
     @GetMapping("/{slugOrUsername}/projects")
-    public ResponseEntity<List<ProjectDTO>> getPublicProjects(@PathVariable String slugOrUsername) {
-        log.info("Request received for public projects with identifier: {}", slugOrUsername);
+    public ResponseEntity<byte[]> getPublicProjects(@PathVariable String slugOrUsername,
+                                                    @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.debug("Request received for public projects with identifier: {}", slugOrUsername);
 
-        // Find the userId associated with the slug/username
-        Optional<Long> userIdOpt = portfolioService.findUserIdBySlug(slugOrUsername);
-        // TODO Optional: Add fallback to lookup by username if slug not found
-
-        if (userIdOpt.isPresent()) {
-            List<ProjectDTO> projects = projectService.findAllByUserId(userIdOpt.get());
-            return ResponseEntity.ok(projects);
-        } else {
-            // If user ID not found based on slug, return 404
-            return ResponseEntity.notFound().build();
-            // Or return an empty list: return ResponseEntity.ok(Collections.emptyList());
-        }
+        // If no portfolio exists for the slug, return 404
+        return publicPortfolioService.getSnapshot(slugOrUsername)
+                .map(snapshot -> encodedOk(snapshot.projects(), acceptEncoding))
+                .orElse(ResponseEntity.notFound().build());
     }
 
     /**
      * GET /api/v1/portfolios/{slugOrUsername}/skills : Get public skills list by slug or username.
      */
     @GetMapping("/{slugOrUsername}/skills")
-    public ResponseEntity<List<SkillDTO>> getPublicSkills(@PathVariable String slugOrUsername) {
-        log.info("Request received for public skills with identifier: {}", slugOrUsername);
+    public ResponseEntity<byte[]> getPublicSkills(@PathVariable String slugOrUsername,
+                                                  @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.debug("Request received for public skills with identifier: {}", slugOrUsername);
+
+        return publicPortfolioService.getSnapshot(slugOrUsername)
+                .map(snapshot -> encodedOk(snapshot.skills(), acceptEncoding))
+                .orElse(ResponseEntity.notFound().build());
+    }
 
-        // Find the userId associated with the slug/username
-        Optional<Long> userIdOpt = portfolioService.findUserIdBySlug(slugOrUsername);
-        // TODO Optional: Add fallback to lookup by username if slug not found
+    /**
+     * GET /api/v1/portfolios/{slugOrUsername}/full : Get the portfolio, projects and skills in one document.
+     * Served from an in-memory snapshot, so a page view costs a single request and no SQL on a cache hit.
+     */
+    @GetMapping("/{slugOrUsername}/full")
+    public ResponseEntity<byte[]> getPublicPortfolioDocument(@PathVariable String slugOrUsername,
+                                                             @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.debug("Request received for full public portfolio with identifier: {}", slugOrUsername);
 
-        if (userIdOpt.isPresent()) {
-            List<SkillDTO> skills = skillService.findAllByUserId(userIdOpt.get());
-            return ResponseEntity.ok(skills);
-        } else {
-            return ResponseEntity.notFound().build();
-            // Or return an empty list: return ResponseEntity.ok(Collections.emptyList());
+        return publicPortfolioService.getSnapshot(slugOrUsername)
+                .map(snapshot -> encodedOk(snapshot.document(), acceptEncoding))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // --- Helper Method ---
+    // 200 with the pre-encoded body and its strong ETag, in the stored variant the client prefers
+    // (Brotli, then gzip, then plain JSON). "no-cache" lets browsers and CDNs store the response but revalidate each time.
+    private static ResponseEntity<byte[]> encodedOk(PublicPortfolioSnapshot.EncodedBody body, String acceptEncoding) {
+        EncodedVariant variant = EncodedVariant.select(body, acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(variant.etag());
+        if (variant.negotiated()) {
+            response.varyBy(HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (variant.contentEncoding() != null) {
+            response.header(HttpHeaders.CONTENT_ENCODING, variant.contentEncoding());
         }
+        return response.body(variant.body());
     }
-}
\ No newline at end of file
+}
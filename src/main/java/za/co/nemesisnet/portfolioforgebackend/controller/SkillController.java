@@ -1,19 +1,25 @@
 package za.co.nemesisnet.portfolioforgebackend.controller;
 
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.BulkImportResultDTO;
 import za.co.nemesisnet.portfolioforgebackend.domain.dto.SkillDTO;
 import za.co.nemesisnet.portfolioforgebackend.exception.ResourceNotFoundException; // Import custom exception
+import za.co.nemesisnet.portfolioforgebackend.service.BulkContentService;
 import za.co.nemesisnet.portfolioforgebackend.service.SkillService;
 import za.co.nemesisnet.portfolioforgebackend.service.UserDetailsImpl;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +30,7 @@ import java.util.Optional;
 public class SkillController {
 
     private final SkillService skillService;
+    private final BulkContentService bulkContentService;
     private static final Logger log = LoggerFactory.getLogger(SkillController.class);
 
     /**
@@ -33,7 +40,7 @@ public class SkillController {
     public ResponseEntity<List<SkillDTO>> getMySkills(Authentication authentication) {
         UserDetailsImpl currentUser = getUserDetails(authentication);
         if (currentUser == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        log.info("Fetching skills for user ID: {}", currentUser.getId());
+        log.debug("Fetching skills for user ID: {}", currentUser.getId());
 
         List<SkillDTO> skills = skillService.findAllByUserId(currentUser.getId());
         return ResponseEntity.ok(skills);
@@ -47,7 +54,7 @@ public class SkillController {
                                            @Valid @RequestBody SkillDTO skillDTO) {
         UserDetailsImpl currentUser = getUserDetails(authentication);
         if (currentUser == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        log.info("Creating skill for user ID: {}", currentUser.getId());
+        log.debug("Creating skill for user ID: {}", currentUser.getId());
 
         try {
             SkillDTO createdSkill = skillService.createSkill(currentUser.getId(), skillDTO);
@@ -67,7 +74,7 @@ public class SkillController {
                                                    @PathVariable Long skillId) {
         UserDetailsImpl currentUser = getUserDetails(authentication);
         if (currentUser == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        log.info("Fetching skill ID: {} for user ID: {}", skillId, currentUser.getId());
+        log.debug("Fetching skill ID: {} for user ID: {}", skillId, currentUser.getId());
 
         return skillService.findByIdAndUserId(skillId, currentUser.getId())
                 .map(ResponseEntity::ok)
@@ -83,7 +90,7 @@ public class SkillController {
                                            @Valid @RequestBody SkillDTO skillDTO) {
         UserDetailsImpl currentUser = getUserDetails(authentication);
         if (currentUser == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        log.info("Updating skill ID: {} for user ID: {}", skillId, currentUser.getId());
+        log.debug("Updating skill ID: {} for user ID: {}", skillId, currentUser.getId());
 
         try {
             Optional<SkillDTO> updatedSkill = skillService.updateSkill(skillId, currentUser.getId(), skillDTO);
@@ -107,7 +114,7 @@ public class SkillController {
                                               @PathVariable Long skillId) {
         UserDetailsImpl currentUser = getUserDetails(authentication);
         if (currentUser == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        log.info("Deleting skill ID: {} for user ID: {}", skillId, currentUser.getId());
+        log.debug("Deleting skill ID: {} for user ID: {}", skillId, currentUser.getId());
 
         try {
             skillService.deleteSkill(skillId, currentUser.getId());
@@ -121,6 +128,38 @@ public class SkillController {
         }
     }
 
+    /**
+     * GET /api/v1/me/skills/bulk : Export all of the logged-in user's skills as a JSON array.
+     * Streamed row by row from the database, so memory use doesn't grow with the number of skills.
+     */
+    @GetMapping(value = "/bulk", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportMySkills(Authentication authentication) {
+        UserDetailsImpl currentUser = getUserDetails(authentication);
+        if (currentUser == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        log.debug("Exporting skills for user ID: {}", currentUser.getId());
+
+        Long userId = currentUser.getId(); // Written after this method returns, on an async thread
+        StreamingResponseBody body = out -> bulkContentService.exportSkills(userId, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * POST /api/v1/me/skills/bulk : Import a JSON array of skills for the logged-in user.
+     * The body is parsed as it arrives and inserted in JDBC batches, all in one transaction.
+     * Skills whose name the user already has (or that repeat in the upload) are skipped.
+     * Returns 201 with the number of skills created and skipped; 400 if the JSON or any item is invalid.
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportResultDTO> importMySkills(Authentication authentication,
+                                                             HttpServletRequest request) throws IOException {
+        UserDetailsImpl currentUser = getUserDetails(authentication);
+        if (currentUser == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        log.debug("Importing skills for user ID: {}", currentUser.getId());
+
+        BulkImportResultDTO result = bulkContentService.importSkills(currentUser.getId(), request.getInputStream());
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
     // Helper method to extract UserDetailsImpl safely
     private UserDetailsImpl getUserDetails(Authentication authentication) {
         if (authentication == null || !authentication.isAuthenticated() || !(authentication.getPrincipal() instanceof UserDetailsImpl)) {
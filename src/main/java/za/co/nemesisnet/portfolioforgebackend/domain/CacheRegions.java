@@ -0,0 +1,22 @@
+package za.co.nemesisnet.portfolioforgebackend.domain;
+
+
+/**
+ * Names of the Hibernate second-level cache regions used by the entities and the cached repository queries.
+ * Sizes and TTLs for each region are configured in config.HibernateCacheConfig.
+ */
+public final class CacheRegions {
+
+    // Entity regions (see @Cache on the entities)
+    public static final String PORTFOLIOS = "portfolios";
+    public static final String PROJECTS = "projects";
+    public static final String SKILLS = "skills";
+
+    // Query result regions (see @QueryHints on the repositories)
+    public static final String PORTFOLIO_QUERIES = "portfolio-queries";
+    public static final String PROJECT_QUERIES = "project-queries";
+    public static final String SKILL_QUERIES = "skill-queries";
+
+    private CacheRegions() {
+    }
+}
@@ -14,7 +14,12 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "contact_messages")
+@Table(name = "contact_messages", indexes = {
+        // Inbox keyset pagination: WHERE recipient = ? AND (date, id) < (?, ?) ORDER BY date DESC, id DESC
+        @Index(name = "idx_contact_messages_recipient_date_id", columnList = "recipient_user_id, submission_date, id"),
+        // Unread count is answered from the index alone
+        @Index(name = "idx_contact_messages_recipient_read", columnList = "recipient_user_id, is_read")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import za.co.nemesisnet.portfolioforgebackend.domain.listener.UserEntityListener;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -21,6 +22,7 @@ import java.util.List;
         @UniqueConstraint(columnNames = "username"),
         @UniqueConstraint(columnNames = "email")
 })
+@EntityListeners(UserEntityListener.class) // Evicts cached principals when the row changes
 @Getter
 @Setter
 @NoArgsConstructor
@@ -50,6 +52,10 @@ public class User {
     @Column(length = 20)
     private String role = "ROLE_USER"; // Default role
 
+    // Embedded in issued JWTs; incrementing it revokes every token issued before
+    @Column(name = "token_version", nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int tokenVersion = 0;
+
     // --- Timestamps ---
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -0,0 +1,18 @@
+package za.co.nemesisnet.portfolioforgebackend.domain.dto;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a bulk import: items inserted, and items skipped because they already existed
+ * (skills with a name the user already has, or that appear twice in the upload).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResultDTO {
+    private int created;
+    private int skipped;
+}
@@ -0,0 +1,32 @@
+package za.co.nemesisnet.portfolioforgebackend.domain.dto;
+
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class BulkReadStatusUpdateRequestDTO {
+
+    @NotNull(message = "Read status (isRead) must be provided (true or false).")
+    private Boolean isRead;
+
+    // Either an explicit list of message IDs...
+    @Size(max = 1000, message = "At most 1000 message IDs can be updated per request")
+    private List<@NotNull Long> messageIds;
+
+    // ...or every message submitted at or before this timestamp (e.g. "mark all as read")
+    private LocalDateTime submittedOnOrBefore;
+
+    @JsonIgnore
+    @AssertTrue(message = "Provide either messageIds or submittedOnOrBefore, but not both.")
+    public boolean isSingleFilterProvided() {
+        boolean hasIds = messageIds != null && !messageIds.isEmpty();
+        return hasIds != (submittedOnOrBefore != null);
+    }
+}
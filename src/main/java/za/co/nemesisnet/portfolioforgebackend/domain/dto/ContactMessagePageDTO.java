@@ -0,0 +1,20 @@
+package za.co.nemesisnet.portfolioforgebackend.domain.dto;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of the inbox, newest first.
+ * Pass nextCursor back as the "cursor" parameter to get the following page; it is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactMessagePageDTO {
+    private List<ContactMessageSummaryDTO> messages;
+    private String nextCursor;
+}
@@ -0,0 +1,24 @@
+package za.co.nemesisnet.portfolioforgebackend.domain.dto;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Inbox list entry: everything from ContactMessageResponseDTO except the message body.
+ * Populated directly by a JPQL constructor expression, so the TEXT column is never read.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactMessageSummaryDTO {
+    private Long id;
+    private String senderName;
+    private String senderEmail;
+    private String subject;
+    private LocalDateTime submissionDate;
+    private boolean isRead;
+}
@@ -2,6 +2,7 @@ package za.co.nemesisnet.portfolioforgebackend.domain.dto;
 
 
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import jakarta.validation.constraints.NotNull; // For non-string fields like displayOrder
@@ -10,9 +11,10 @@ import lombok.Data;
 @Data
 public class ProjectDTO {
 
-    // We don't expose ID in request/response generally,
-    // but might include it in responses sometimes. Add if needed:
-    // private Long id;
+    // Returned so clients can address a project (GET/PUT/DELETE /{projectId}, PATCH /order);
+    // ignored in request bodies.
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long id;
 
     @NotBlank(message = "Project title cannot be blank")
     @Size(max = 100, message = "Project title must be less than 100 characters")
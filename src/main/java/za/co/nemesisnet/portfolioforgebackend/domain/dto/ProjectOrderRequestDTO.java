@@ -0,0 +1,18 @@
+package za.co.nemesisnet.portfolioforgebackend.domain.dto;
+
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ProjectOrderRequestDTO {
+
+    // Every one of the user's project IDs, in the new display order (first = position 0)
+    @NotEmpty(message = "projectIds must list the user's projects in display order")
+    @Size(max = 1000, message = "At most 1000 projects can be reordered per request")
+    private List<@NotNull Long> projectIds;
+}
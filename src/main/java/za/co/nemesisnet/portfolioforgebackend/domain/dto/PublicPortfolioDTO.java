@@ -0,0 +1,21 @@
+package za.co.nemesisnet.portfolioforgebackend.domain.dto;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Aggregated public view of a portfolio: the profile details plus projects and skills,
+ * so the public page can be rendered from a single request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublicPortfolioDTO {
+    private PortfolioDTO portfolio;
+    private List<ProjectDTO> projects;
+    private List<SkillDTO> skills;
+}
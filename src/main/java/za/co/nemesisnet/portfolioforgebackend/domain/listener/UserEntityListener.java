@@ -0,0 +1,29 @@
+package za.co.nemesisnet.portfolioforgebackend.domain.listener;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import za.co.nemesisnet.portfolioforgebackend.domain.User;
+import za.co.nemesisnet.portfolioforgebackend.event.UserChangedEvent;
+
+/**
+ * Publishes a {@link UserChangedEvent} whenever a User row is inserted, updated or deleted through JPA,
+ * so caches of principals, token versions and username lookups never outlive the data they were built from.
+ * Spring Boot lets Hibernate obtain entity listeners as beans, which is how the publisher is injected.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getUsername()));
+    }
+}
@@ -0,0 +1,11 @@
+package za.co.nemesisnet.portfolioforgebackend.event;
+
+/**
+ * Published by the portfolio, project and skill services whenever a write changes
+ * anything that is visible on a user's public portfolio.
+ * Listeners that keep derived read models (e.g. cached public snapshots) use it to evict stale data.
+ *
+ * @param userId The ID of the user (portfolio owner) whose content changed.
+ */
+public record PortfolioContentChangedEvent(Long userId) {
+}
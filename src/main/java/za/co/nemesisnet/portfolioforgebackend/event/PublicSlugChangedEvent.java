@@ -0,0 +1,12 @@
+package za.co.nemesisnet.portfolioforgebackend.event;
+
+/**
+ * Published when a portfolio's public slug is set for the first time or changed.
+ * Both slugs are included so caches can drop the old mapping and any cached "not found" for the new one.
+ *
+ * @param userId       The ID of the portfolio owner.
+ * @param previousSlug The slug before the change (null if the portfolio had none).
+ * @param newSlug      The slug after the change (null if it was cleared).
+ */
+public record PublicSlugChangedEvent(Long userId, String previousSlug, String newSlug) {
+}
@@ -0,0 +1,13 @@
+package za.co.nemesisnet.portfolioforgebackend.event;
+
+/**
+ * Published when a user is registered or their security-relevant data changes (credentials, role,
+ * username or token version). Caches holding principals, token versions or username lookups for that
+ * user must drop them.
+ *
+ * @param userId The ID of the user that changed.
+ * @param username The user's current username, or null when the publisher does not know it
+ *                 (the username is then unchanged).
+ */
+public record UserChangedEvent(Long userId, String username) {
+}
@@ -48,6 +48,24 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler { //
         return new ResponseEntity<>(errorDetails, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handles InvalidRequestException (a malformed parameter such as a paging cursor).
+     * Returns HTTP 400 Bad Request.
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorDetails> handleInvalidRequestException(
+            InvalidRequestException exception,
+            WebRequest webRequest) {
+
+        log.warn("Invalid request: {}", exception.getMessage()); // Client error, no stack trace
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                exception.getMessage(),
+                webRequest.getDescription(false)
+        );
+        return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * Handles AccessDeniedException (from Spring Security, e.g., wrong role).
      * Returns HTTP 403 Forbidden.
@@ -66,6 +84,63 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler { //
         return new ResponseEntity<>(errorDetails, HttpStatus.FORBIDDEN);
     }
 
+    /**
+     * Handles RateLimitExceededException (client is sending too many requests).
+     * Returns HTTP 429 Too Many Requests with a Retry-After header.
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorDetails> handleRateLimitExceededException(
+            RateLimitExceededException exception,
+            WebRequest webRequest) {
+
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                exception.getMessage(),
+                webRequest.getDescription(false)
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+                .body(errorDetails);
+    }
+
+    /**
+     * Handles ServiceOverloadedException (a bounded queue or worker pool is saturated).
+     * Returns HTTP 503 Service Unavailable with a Retry-After header.
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorDetails> handleServiceOverloadedException(
+            ServiceOverloadedException exception,
+            WebRequest webRequest) {
+
+        log.warn("Request shed due to overload: {}", exception.getMessage());
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                exception.getMessage(),
+                webRequest.getDescription(false)
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+                .body(errorDetails);
+    }
+
+    /**
+     * Handles SqlBudgetExceededException (dev/test only: an endpoint ran more SQL than its budget).
+     * Returns HTTP 500 Internal Server Error with the budget details.
+     */
+    @ExceptionHandler(SqlBudgetExceededException.class)
+    public ResponseEntity<ErrorDetails> handleSqlBudgetExceededException(
+            SqlBudgetExceededException exception,
+            WebRequest webRequest) {
+
+        log.error("SQL budget exceeded: {}", exception.getMessage());
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                exception.getMessage(),
+                webRequest.getDescription(false)
+        );
+        return new ResponseEntity<>(errorDetails, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
     /**
      * Handles RuntimeException (e.g., from slug conflict check).
      * Consider creating more specific custom exceptions for business logic errors.
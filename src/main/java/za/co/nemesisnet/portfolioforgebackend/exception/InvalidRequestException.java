@@ -0,0 +1,19 @@
+package za.co.nemesisnet.portfolioforgebackend.exception;
+
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a client sends a request parameter that cannot be interpreted (e.g. a tampered paging cursor).
+ * Maps to 400 Bad Request and is logged without a stack trace, since the fault lies with the caller.
+ */
+@ResponseStatus(value = HttpStatus.BAD_REQUEST)
+public class InvalidRequestException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
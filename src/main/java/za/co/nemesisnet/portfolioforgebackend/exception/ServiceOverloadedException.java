@@ -0,0 +1,24 @@
+package za.co.nemesisnet.portfolioforgebackend.exception;
+
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a bounded resource (queue, worker pool) is saturated and the request is shed
+ * instead of waiting. Maps to 503 Service Unavailable with a Retry-After hint.
+ */
+@Getter
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceOverloadedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds; // Sent to the client as the Retry-After header
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,28 @@
+package za.co.nemesisnet.portfolioforgebackend.exception;
+
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown in dev/test (portfolioforge.sql-metrics.fail-on-budget-exceeded) when an endpoint executes more
+ * SQL statements than its configured budget. Maps to 500 so the regression cannot go unnoticed.
+ */
+@Getter
+@ResponseStatus(value = HttpStatus.INTERNAL_SERVER_ERROR)
+public class SqlBudgetExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String endpoint;
+    private final long statements;
+    private final int budget;
+
+    public SqlBudgetExceededException(String endpoint, long statements, int budget) {
+        super(endpoint + " executed " + statements + " SQL statement(s), over its budget of " + budget);
+        this.endpoint = endpoint;
+        this.statements = statements;
+        this.budget = budget;
+    }
+}
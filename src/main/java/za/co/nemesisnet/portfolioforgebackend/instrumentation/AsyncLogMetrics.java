@@ -0,0 +1,69 @@
+package za.co.nemesisnet.portfolioforgebackend.instrumentation;
+
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Publishes queue depth and drop counts for every {@link MeteredAsyncAppender} configured in
+ * logback-spring.xml (only the 'prod' profile uses them). A queue that stays near capacity, or a growing
+ * drop count, means the log sink can't keep up with the request rate.
+ */
+@Component
+public class AsyncLogMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+            return; // Not running on Logback
+        }
+        for (MeteredAsyncAppender appender : findAppenders(loggerContext).values()) {
+            String name = appender.getName();
+            Gauge.builder("portfolioforge.logging.queue.depth", appender, MeteredAsyncAppender::getNumberOfElementsInQueue)
+                    .description("Log events waiting to be written by the async appender")
+                    .tag("appender", name)
+                    .register(registry);
+            Gauge.builder("portfolioforge.logging.queue.capacity", appender, MeteredAsyncAppender::getQueueSize)
+                    .description("Capacity of the async appender's queue")
+                    .tag("appender", name)
+                    .register(registry);
+            FunctionCounter.builder("portfolioforge.logging.dropped", appender, MeteredAsyncAppender::getDiscardedCount)
+                    .description("Log events dropped by the async appender instead of blocking the caller")
+                    .tag("appender", name)
+                    .tag("reason", "discarded")
+                    .register(registry);
+            FunctionCounter.builder("portfolioforge.logging.dropped", appender, MeteredAsyncAppender::getQueueFullCount)
+                    .description("Log events dropped by the async appender instead of blocking the caller")
+                    .tag("appender", name)
+                    .tag("reason", "queue-full")
+                    .register(registry);
+        }
+    }
+
+    // An appender can be attached to several loggers; key by name so each is bound once
+    private static Map<String, MeteredAsyncAppender> findAppenders(LoggerContext loggerContext) {
+        Map<String, MeteredAsyncAppender> appenders = new LinkedHashMap<>();
+        for (Logger logger : loggerContext.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> attached = logger.iteratorForAppenders();
+            while (attached.hasNext()) {
+                if (attached.next() instanceof MeteredAsyncAppender appender) {
+                    appenders.putIfAbsent(appender.getName(), appender);
+                }
+            }
+        }
+        return appenders;
+    }
+}
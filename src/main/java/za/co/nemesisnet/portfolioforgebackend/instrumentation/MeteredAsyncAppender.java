@@ -0,0 +1,44 @@
+package za.co.nemesisnet.portfolioforgebackend.instrumentation;
+
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logback {@link AsyncAppender} that counts the events it drops, so log loss shows up in metrics
+ * (see {@link AsyncLogMetrics}) instead of going unnoticed. Events are dropped in two cases:
+ * "discarded" when the queue is past its discarding threshold and the event is INFO or lower, and
+ * "queue-full" when neverBlock is set and there is no room left at all.
+ * Configured in logback-spring.xml; it is not a Spring bean.
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder queueFull = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // Same rule AsyncAppenderBase applies; checked here first so the drop can be counted
+        if (getRemainingCapacity() < getDiscardingThreshold() && isDiscardable(event)) {
+            discarded.increment();
+            return;
+        }
+        // With neverBlock the base class drops silently when offer() fails. Dropping here when the queue is
+        // already full counts almost all of them; the rare race between this check and offer() goes uncounted.
+        if (isNeverBlock() && getRemainingCapacity() == 0) {
+            queueFull.increment();
+            return;
+        }
+        super.append(event);
+    }
+
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    public long getQueueFullCount() {
+        return queueFull.sum();
+    }
+}
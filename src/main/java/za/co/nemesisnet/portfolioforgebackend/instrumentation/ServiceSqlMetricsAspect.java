@@ -0,0 +1,36 @@
+package za.co.nemesisnet.portfolioforgebackend.instrumentation;
+
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Attributes SQL statements to the service method that caused them, e.g. "ProjectServiceImpl.findAllByUserId".
+ * Counts are inclusive: a service calling another service is charged for both.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "portfolioforge.sql-metrics.enabled", havingValue = "true")
+public class ServiceSqlMetricsAspect {
+
+    private final SqlStatementMetrics sqlStatementMetrics;
+
+    public ServiceSqlMetricsAspect(SqlStatementMetrics sqlStatementMetrics) {
+        this.sqlStatementMetrics = sqlStatementMetrics;
+    }
+
+    // Methods declared by the service interfaces (and their implementations), not lifecycle callbacks
+    @Around("execution(* za.co.nemesisnet.portfolioforgebackend.service.*Service.*(..))")
+    public Object recordStatements(ProceedingJoinPoint joinPoint) throws Throwable {
+        SqlStatementRecorder.Snapshot start = SqlStatementRecorder.snapshot();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            String method = joinPoint.getTarget().getClass().getSimpleName() + "." + joinPoint.getSignature().getName();
+            sqlStatementMetrics.recordMethod(method, SqlStatementRecorder.snapshot().minus(start));
+        }
+    }
+}
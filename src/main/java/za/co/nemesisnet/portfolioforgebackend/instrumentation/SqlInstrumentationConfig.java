@@ -0,0 +1,41 @@
+package za.co.nemesisnet.portfolioforgebackend.instrumentation;
+
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's DataSource in a datasource-proxy that feeds {@link SqlStatementRecorder}.
+ * Only active with portfolioforge.sql-metrics.enabled=true: every statement and every ResultSet.next()
+ * goes through a proxy, which is cheap but not free, so this is meant for dev and test environments.
+ */
+@Configuration
+@ConditionalOnProperty(name = "portfolioforge.sql-metrics.enabled", havingValue = "true")
+public class SqlInstrumentationConfig {
+
+    // Static so the post-processor is registered without initialising this configuration class early
+    @Bean
+    public static BeanPostProcessor sqlInstrumentationDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    SqlStatementRecorder recorder = new SqlStatementRecorder();
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(recorder)
+                            .methodListener(recorder)
+                            .proxyResultSet() // Needed to observe ResultSet.next() for row counts
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,133 @@
+package za.co.nemesisnet.portfolioforgebackend.instrumentation;
+
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes SQL statement counts, rows and time per endpoint and per service method, and holds the
+ * per-endpoint statement budgets. Endpoints are keyed as "METHOD /route/{pattern}", e.g.
+ * "GET /api/v1/me/projects", so the number of meters stays bounded by the number of routes.
+ */
+@Component
+@ConditionalOnProperty(name = "portfolioforge.sql-metrics.enabled", havingValue = "true")
+public class SqlStatementMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementMetrics.class);
+
+    private record Meters(DistributionSummary statements, DistributionSummary rows, Timer time) {}
+
+    private final MeterRegistry meterRegistry;
+    private final int defaultBudget;
+    private final Map<String, Integer> budgets;
+    private final boolean failOnBudgetExceeded;
+    private final int repeatedStatementThreshold;
+    private final boolean responseHeaders;
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>(); // "<scope>:<name>" -> meters
+    private final Map<String, Counter> violations = new ConcurrentHashMap<>(); // "<type>:<endpoint>" -> counter
+
+    public SqlStatementMetrics(MeterRegistry meterRegistry,
+                               @Value("${portfolioforge.sql-metrics.default-budget:-1}") int defaultBudget,
+                               @Value("${portfolioforge.sql-metrics.budgets:}") String[] budgets,
+                               @Value("${portfolioforge.sql-metrics.fail-on-budget-exceeded:false}") boolean failOnBudgetExceeded,
+                               @Value("${portfolioforge.sql-metrics.repeated-statement-threshold:5}") int repeatedStatementThreshold,
+                               @Value("${portfolioforge.sql-metrics.response-headers:false}") boolean responseHeaders) {
+        this.meterRegistry = meterRegistry;
+        this.defaultBudget = defaultBudget;
+        this.budgets = parseBudgets(budgets);
+        this.failOnBudgetExceeded = failOnBudgetExceeded;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+        this.responseHeaders = responseHeaders;
+        log.info("SQL statement metrics enabled ({} endpoint budget(s), default budget {}, fail on exceeded: {})",
+                this.budgets.size(), defaultBudget < 0 ? "none" : defaultBudget, failOnBudgetExceeded);
+    }
+
+    public void recordRequest(String endpoint, SqlStatementRecorder.Snapshot usage) {
+        record("request", endpoint, usage);
+    }
+
+    public void recordMethod(String method, SqlStatementRecorder.Snapshot usage) {
+        record("method", method, usage);
+    }
+
+    /** The statement budget for an endpoint, or a negative number if it has none. */
+    public int budgetFor(String endpoint) {
+        return budgets.getOrDefault(endpoint, defaultBudget);
+    }
+
+    public boolean isOverBudget(String endpoint, long statements) {
+        int budget = budgetFor(endpoint);
+        return budget >= 0 && statements > budget;
+    }
+
+    public void countViolation(String type, String endpoint) {
+        violations.computeIfAbsent(type + ":" + endpoint, key -> Counter.builder("portfolioforge.sql.violations")
+                        .description("Requests that exceeded their statement budget or repeated a statement (possible N+1)")
+                        .tag("type", type)
+                        .tag("endpoint", endpoint)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    public boolean isFailOnBudgetExceeded() {
+        return failOnBudgetExceeded;
+    }
+
+    public int getRepeatedStatementThreshold() {
+        return repeatedStatementThreshold;
+    }
+
+    public boolean isResponseHeaders() {
+        return responseHeaders;
+    }
+
+    private void record(String scope, String name, SqlStatementRecorder.Snapshot usage) {
+        Meters scoped = meters.computeIfAbsent(scope + ":" + name, key -> new Meters(
+                DistributionSummary.builder("portfolioforge.sql.statements")
+                        .description("JDBC statements executed per " + scope)
+                        .tag("scope", scope)
+                        .tag("name", name)
+                        .register(meterRegistry),
+                DistributionSummary.builder("portfolioforge.sql.rows")
+                        .description("Rows read or written per " + scope)
+                        .tag("scope", scope)
+                        .tag("name", name)
+                        .register(meterRegistry),
+                Timer.builder("portfolioforge.sql.time")
+                        .description("Time spent executing JDBC statements per " + scope)
+                        .tag("scope", scope)
+                        .tag("name", name)
+                        .register(meterRegistry)));
+        scoped.statements().record(usage.statements());
+        scoped.rows().record(usage.rows());
+        scoped.time().record(usage.nanos(), TimeUnit.NANOSECONDS);
+    }
+
+    // "GET /api/v1/me/projects=3" -> {"GET /api/v1/me/projects": 3}
+    private static Map<String, Integer> parseBudgets(String[] entries) {
+        Map<String, Integer> parsed = new HashMap<>();
+        for (String entry : entries) {
+            int separator = entry.lastIndexOf('=');
+            if (separator <= 0) {
+                if (!entry.isBlank()) {
+                    log.warn("Ignoring malformed SQL budget '{}'; expected 'METHOD /path=statements'", entry);
+                }
+                continue;
+            }
+            parsed.put(entry.substring(0, separator).trim(), Integer.parseInt(entry.substring(separator + 1).trim()));
+        }
+        return Map.copyOf(parsed);
+    }
+}
@@ -0,0 +1,79 @@
+package za.co.nemesisnet.portfolioforgebackend.instrumentation;
+
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Measures the SQL executed while handling each HTTP request, including the user lookup done by the
+ * security filters. Records the totals per endpoint, warns when an endpoint exceeds its statement budget,
+ * and flags statements repeated within one request (the usual signature of an N+1 query).
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 2) // Outside the concurrency limit and Spring Security
+@ConditionalOnProperty(name = "portfolioforge.sql-metrics.enabled", havingValue = "true")
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementMetricsFilter.class);
+
+    // Request attribute holding the Snapshot taken when the request started
+    static final String START_ATTRIBUTE = SqlStatementMetricsFilter.class.getName() + ".start";
+
+    private final SqlStatementMetrics sqlStatementMetrics;
+
+    public SqlStatementMetricsFilter(SqlStatementMetrics sqlStatementMetrics) {
+        this.sqlStatementMetrics = sqlStatementMetrics;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        SqlStatementRecorder.Snapshot start = SqlStatementRecorder.snapshot();
+        request.setAttribute(START_ATTRIBUTE, start);
+        SqlStatementRecorder.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Map<String, Integer> executionsBySql = SqlStatementRecorder.endRequest();
+            SqlStatementRecorder.Snapshot usage = SqlStatementRecorder.snapshot().minus(start);
+            String endpoint = endpointOf(request);
+            sqlStatementMetrics.recordRequest(endpoint, usage);
+
+            if (sqlStatementMetrics.isOverBudget(endpoint, usage.statements())) {
+                sqlStatementMetrics.countViolation("budget", endpoint);
+                log.warn("{} executed {} SQL statement(s), over its budget of {}",
+                        endpoint, usage.statements(), sqlStatementMetrics.budgetFor(endpoint));
+            }
+            executionsBySql.forEach((sql, executions) -> {
+                if (executions >= sqlStatementMetrics.getRepeatedStatementThreshold()) {
+                    sqlStatementMetrics.countViolation("repeated-statement", endpoint);
+                    log.warn("Possible N+1 on {}: the same statement ran {} times: {}", endpoint, executions, sql);
+                }
+            });
+        }
+    }
+
+    // "GET /api/v1/portfolios/{slugOrUsername}"; the route pattern keeps meter cardinality bounded
+    static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "UNMATCHED");
+    }
+}
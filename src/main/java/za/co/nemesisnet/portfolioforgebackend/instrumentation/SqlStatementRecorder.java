@@ -0,0 +1,100 @@
+package za.co.nemesisnet.portfolioforgebackend.instrumentation;
+
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Listener on the proxied DataSource that counts JDBC statement executions, rows and time on the
+ * calling thread. Counters only ever grow; callers take a {@link Snapshot} before and after a unit of
+ * work (an HTTP request, a service method) and diff them, so nested scopes need no bookkeeping here.
+ * While a request is open it also counts executions per SQL string to spot N+1 patterns.
+ */
+public class SqlStatementRecorder implements QueryExecutionListener, MethodExecutionListener {
+
+    /** Totals for the current thread at one point in time. */
+    public record Snapshot(long statements, long rows, long nanos) {
+
+        public Snapshot minus(Snapshot earlier) {
+            return new Snapshot(statements - earlier.statements, rows - earlier.rows, nanos - earlier.nanos);
+        }
+    }
+
+    private static final class Counters {
+        long statements;
+        long rows;
+        long nanos;
+        long startedAt;
+        Map<String, Integer> executionsBySql; // Only while a request is open
+    }
+
+    private static final ThreadLocal<Counters> COUNTERS = ThreadLocal.withInitial(Counters::new);
+
+    public static Snapshot snapshot() {
+        Counters counters = COUNTERS.get();
+        return new Snapshot(counters.statements, counters.rows, counters.nanos);
+    }
+
+    /** Starts counting executions per SQL string on this thread. */
+    public static void beginRequest() {
+        COUNTERS.get().executionsBySql = new HashMap<>();
+    }
+
+    /** Stops counting per SQL string and returns the counts collected since {@link #beginRequest()}. */
+    public static Map<String, Integer> endRequest() {
+        Counters counters = COUNTERS.get();
+        Map<String, Integer> executions = counters.executionsBySql;
+        counters.executionsBySql = null;
+        return executions == null ? Map.of() : executions;
+    }
+
+    // --- QueryExecutionListener ---
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        COUNTERS.get().startedAt = System.nanoTime(); // ExecutionInfo only has millisecond resolution
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Counters counters = COUNTERS.get();
+        counters.nanos += System.nanoTime() - counters.startedAt;
+        counters.statements++; // A JDBC batch is one round trip, so it counts once
+        Object result = execInfo.getResult();
+        if (result instanceof Integer updated) {
+            counters.rows += Math.max(0, updated);
+        } else if (result instanceof int[] batchUpdated) {
+            for (int updated : batchUpdated) {
+                counters.rows += Math.max(0, updated); // SUCCESS_NO_INFO is negative
+            }
+        }
+        if (counters.executionsBySql != null) {
+            for (QueryInfo queryInfo : queryInfoList) {
+                counters.executionsBySql.merge(queryInfo.getQuery(), 1, Integer::sum);
+            }
+        }
+    }
+
+    // --- MethodExecutionListener (rows read from proxied result sets) ---
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            COUNTERS.get().rows++;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package za.co.nemesisnet.portfolioforgebackend.instrumentation;
+
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import za.co.nemesisnet.portfolioforgebackend.exception.SqlBudgetExceededException;
+
+import java.util.Locale;
+
+/**
+ * Runs just before a response body is written, while headers can still be changed. Adds the request's
+ * SQL usage so far as X-SQL-* headers (portfolioforge.sql-metrics.response-headers), and with
+ * portfolioforge.sql-metrics.fail-on-budget-exceeded turns an over-budget response into a 500,
+ * so a test hitting that endpoint fails instead of only logging a warning.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "portfolioforge.sql-metrics.enabled", havingValue = "true")
+public class SqlStatementResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String ROWS_HEADER = "X-SQL-Rows";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    // Set once the budget error has been raised, so the error response itself is written normally
+    private static final String REPORTED_ATTRIBUTE = SqlStatementResponseAdvice.class.getName() + ".reported";
+
+    private final SqlStatementMetrics sqlStatementMetrics;
+
+    public SqlStatementResponseAdvice(SqlStatementMetrics sqlStatementMetrics) {
+        this.sqlStatementMetrics = sqlStatementMetrics;
+    }
+
+    @Override
+    public boolean supports(@NonNull MethodParameter returnType,
+                            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return sqlStatementMetrics.isResponseHeaders() || sqlStatementMetrics.isFailOnBudgetExceeded();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  @NonNull MethodParameter returnType,
+                                  @NonNull MediaType selectedContentType,
+                                  @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  @NonNull ServerHttpRequest request,
+                                  @NonNull ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        if (!(httpRequest.getAttribute(SqlStatementMetricsFilter.START_ATTRIBUTE) instanceof SqlStatementRecorder.Snapshot start)) {
+            return body;
+        }
+        SqlStatementRecorder.Snapshot usage = SqlStatementRecorder.snapshot().minus(start);
+
+        if (sqlStatementMetrics.isResponseHeaders()) {
+            response.getHeaders().set(STATEMENTS_HEADER, String.valueOf(usage.statements()));
+            response.getHeaders().set(ROWS_HEADER, String.valueOf(usage.rows()));
+            response.getHeaders().set(TIME_HEADER, String.format(Locale.ROOT, "%.3f", usage.nanos() / 1e6));
+        }
+
+        String endpoint = SqlStatementMetricsFilter.endpointOf(httpRequest);
+        if (sqlStatementMetrics.isFailOnBudgetExceeded()
+                && httpRequest.getAttribute(REPORTED_ATTRIBUTE) == null
+                && sqlStatementMetrics.isOverBudget(endpoint, usage.statements())) {
+            httpRequest.setAttribute(REPORTED_ATTRIBUTE, Boolean.TRUE);
+            throw new SqlBudgetExceededException(endpoint, usage.statements(), sqlStatementMetrics.budgetFor(endpoint));
+        }
+        return body;
+    }
+}
@@ -1,10 +1,16 @@
 package za.co.nemesisnet.portfolioforgebackend.repository;
 
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import za.co.nemesisnet.portfolioforgebackend.domain.ContactMessage;
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.ContactMessageSummaryDTO;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,4 +33,73 @@ public interface ContactMessageRepository extends JpaRepository<ContactMessage,
      */
     Optional<ContactMessage> findByIdAndRecipientId(Long id, Long recipientId);
 
+    /**
+     * First page of a user's inbox as summaries (no message body), newest first.
+     * The id is a tie-breaker so messages submitted in the same instant keep a stable order.
+     * @param recipientId The ID of the recipient user.
+     * @param limit Maximum number of rows to return.
+     * @return Up to {@code limit} message summaries.
+     */
+    @Query("SELECT new za.co.nemesisnet.portfolioforgebackend.domain.dto.ContactMessageSummaryDTO(" +
+            "m.id, m.senderName, m.senderEmail, m.subject, m.submissionDate, m.isRead) " +
+            "FROM ContactMessage m WHERE m.recipient.id = :recipientId " +
+            "ORDER BY m.submissionDate DESC, m.id DESC")
+    List<ContactMessageSummaryDTO> findSummariesByRecipientId(@Param("recipientId") Long recipientId, Limit limit);
+
+    /**
+     * Next page of a user's inbox: summaries strictly older than the (submissionDate, id) cursor.
+     * Seeks through the (recipient_user_id, submission_date, id) index, so deep pages cost the same as the first.
+     * @param recipientId The ID of the recipient user.
+     * @param beforeDate Submission date of the last message on the previous page.
+     * @param beforeId ID of the last message on the previous page.
+     * @param limit Maximum number of rows to return.
+     * @return Up to {@code limit} message summaries.
+     */
+    @Query("SELECT new za.co.nemesisnet.portfolioforgebackend.domain.dto.ContactMessageSummaryDTO(" +
+            "m.id, m.senderName, m.senderEmail, m.subject, m.submissionDate, m.isRead) " +
+            "FROM ContactMessage m WHERE m.recipient.id = :recipientId " +
+            "AND (m.submissionDate < :beforeDate OR (m.submissionDate = :beforeDate AND m.id < :beforeId)) " +
+            "ORDER BY m.submissionDate DESC, m.id DESC")
+    List<ContactMessageSummaryDTO> findSummariesByRecipientIdBefore(@Param("recipientId") Long recipientId,
+                                                                    @Param("beforeDate") LocalDateTime beforeDate,
+                                                                    @Param("beforeId") Long beforeId,
+                                                                    Limit limit);
+
+    /**
+     * Counts unread messages for a user without loading any entities.
+     * @param recipientId The ID of the recipient user.
+     * @return The number of unread messages.
+     */
+    @Query("SELECT COUNT(m) FROM ContactMessage m WHERE m.recipient.id = :recipientId AND m.isRead = false")
+    long countUnreadByRecipientId(@Param("recipientId") Long recipientId);
+
+    /**
+     * Sets the read status of the given messages in a single UPDATE, without loading them.
+     * IDs that don't belong to the recipient are silently ignored.
+     * @param recipientId The ID of the recipient user.
+     * @param ids The IDs of the messages to update.
+     * @param isRead The desired read status.
+     * @return The number of messages whose status changed.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ContactMessage m SET m.isRead = :isRead " +
+            "WHERE m.recipient.id = :recipientId AND m.id IN :ids AND m.isRead <> :isRead")
+    int updateReadStatusByIds(@Param("recipientId") Long recipientId,
+                              @Param("ids") List<Long> ids,
+                              @Param("isRead") boolean isRead);
+
+    /**
+     * Sets the read status of every message submitted at or before the given timestamp, in a single UPDATE.
+     * @param recipientId The ID of the recipient user.
+     * @param submittedOnOrBefore Inclusive upper bound on the submission date.
+     * @param isRead The desired read status.
+     * @return The number of messages whose status changed.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ContactMessage m SET m.isRead = :isRead " +
+            "WHERE m.recipient.id = :recipientId AND m.submissionDate <= :submittedOnOrBefore AND m.isRead <> :isRead")
+    int updateReadStatusSubmittedOnOrBefore(@Param("recipientId") Long recipientId,
+                                            @Param("submittedOnOrBefore") LocalDateTime submittedOnOrBefore,
+                                            @Param("isRead") boolean isRead);
+
 }
@@ -3,8 +3,14 @@ package za.co.nemesisnet.portfolioforgebackend.repository;
 
 
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import za.co.nemesisnet.portfolioforgebackend.domain.CacheRegions;
 import za.co.nemesisnet.portfolioforgebackend.domain.Portfolio;
 
 import java.util.Optional;
@@ -17,6 +23,10 @@ public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
      * @param userId The ID of the User.
      * @return An Optional containing the Portfolio if found.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PORTFOLIO_QUERIES)
+    })
     Optional<Portfolio> findByUserId(Long userId);
 
     // Alternative:
@@ -34,6 +44,10 @@ public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
      * @param publicSlug The unique public identifier.
      * @return An Optional containing the Portfolio if found.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PORTFOLIO_QUERIES)
+    })
     Optional<Portfolio> findByPublicSlug(String publicSlug); // Add if using slugs publicly
 
     /**
@@ -42,4 +56,12 @@ public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
      * @return true if exists, false otherwise.
      */
     boolean existsByPublicSlug(String publicSlug); // Add if using slugs publicly
+
+    /**
+     * Finds only the owning user's ID for a public slug, without loading the Portfolio entity.
+     * @param publicSlug The unique public identifier.
+     * @return An Optional containing the owner's user ID if a portfolio with the slug exists.
+     */
+    @Query("SELECT p.user.id FROM Portfolio p WHERE p.publicSlug = :publicSlug")
+    Optional<Long> findUserIdByPublicSlug(@Param("publicSlug") String publicSlug);
 }
\ No newline at end of file
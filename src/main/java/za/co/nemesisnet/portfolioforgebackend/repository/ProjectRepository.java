@@ -0,0 +1,38 @@
+package za.co.nemesisnet.portfolioforgebackend.repository;
+
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import za.co.nemesisnet.portfolioforgebackend.domain.CacheRegions;
+import za.co.nemesisnet.portfolioforgebackend.domain.Project;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProjectRepository extends JpaRepository<Project, Long> {
+
+    /**
+     * Finds all Projects belonging to a specific user, ordered for display
+     * (display order ascending, then newest first).
+     * @param userId The ID of the user.
+     * @return A list of projects.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PROJECT_QUERIES)
+    })
+    List<Project> findByUserIdOrderByDisplayOrderAscCreatedAtDesc(Long userId);
+
+    /**
+     * Finds a specific Project by its ID and the ID of its owning user.
+     * Ensures users can only access their own projects.
+     * @param id The ID of the project.
+     * @param userId The ID of the owning user.
+     * @return An Optional containing the project if found and owned by the user.
+     */
+    Optional<Project> findByIdAndUserId(Long id, Long userId);
+}
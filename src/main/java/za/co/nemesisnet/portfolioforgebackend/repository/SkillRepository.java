@@ -1,8 +1,12 @@
 package za.co.nemesisnet.portfolioforgebackend.repository;
 
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import za.co.nemesisnet.portfolioforgebackend.domain.CacheRegions;
 import za.co.nemesisnet.portfolioforgebackend.domain.Skill;
 
 import java.util.List;
@@ -16,6 +20,10 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
      * @param userId The ID of the user.
      * @return A list of skills.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.SKILL_QUERIES)
+    })
     List<Skill> findByUserIdOrderByCategoryAscNameAsc(Long userId);
 
     /**
@@ -3,6 +3,9 @@ package za.co.nemesisnet.portfolioforgebackend.repository;
 
 import za.co.nemesisnet.portfolioforgebackend.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -41,4 +44,29 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return true if a user exists, false otherwise.
      */
     Boolean existsByEmail(String email);
+
+    /**
+     * Finds only the ID of the user with the given username, without loading the User entity.
+     * @param username The username to search for.
+     * @return An Optional containing the user ID if found.
+     */
+    @Query("SELECT u.id FROM User u WHERE u.username = :username")
+    Optional<Long> findIdByUsername(@Param("username") String username);
+
+    /**
+     * Finds only the current token version of a user.
+     * @param id The user ID.
+     * @return An Optional containing the token version if the user exists.
+     */
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
+
+    /**
+     * Increments a user's token version, invalidating every JWT issued before.
+     * @param id The user ID.
+     * @return The number of rows updated (0 if the user doesn't exist).
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :id")
+    int incrementTokenVersion(@Param("id") Long id);
 }
@@ -0,0 +1,59 @@
+package za.co.nemesisnet.portfolioforgebackend.security;
+
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.util.Arrays;
+
+/**
+ * Startup micro-benchmark that picks the highest BCrypt cost whose hashing time on this machine
+ * stays within a target latency. Each +1 doubles the work, so the search stops at the first cost over target.
+ */
+public final class BCryptCostCalibrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BCryptCostCalibrator.class);
+
+    private static final String SAMPLE_PASSWORD = "calibration-Password-123!";
+    private static final int SAMPLES_PER_COST = 3;
+
+    private BCryptCostCalibrator() {
+    }
+
+    /**
+     * @param targetMs Maximum acceptable time for one hash/verification, in milliseconds.
+     * @param minCost  Lowest cost ever returned, even if slower than the target (security floor).
+     * @param maxCost  Highest cost ever returned.
+     * @return The chosen cost factor.
+     */
+    public static int calibrate(long targetMs, int minCost, int maxCost) {
+        BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(4)); // Warm up the JIT so the first measurement isn't inflated
+
+        int chosen = minCost;
+        for (int cost = minCost; cost <= maxCost; cost++) {
+            long elapsedMs = medianHashMillis(cost);
+            logger.debug("BCrypt cost {} took {} ms", cost, elapsedMs);
+            if (elapsedMs > targetMs) {
+                if (cost == minCost) {
+                    logger.warn("BCrypt minimum cost {} takes {} ms, above the {} ms target; using it anyway", cost, elapsedMs, targetMs);
+                }
+                break;
+            }
+            chosen = cost;
+        }
+        logger.info("BCrypt cost calibrated to {} (target {} ms, allowed range {}-{})", chosen, targetMs, minCost, maxCost);
+        return chosen;
+    }
+
+    private static long medianHashMillis(int cost) {
+        long[] samples = new long[SAMPLES_PER_COST];
+        for (int i = 0; i < SAMPLES_PER_COST; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(cost));
+            samples[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES_PER_COST / 2];
+    }
+}
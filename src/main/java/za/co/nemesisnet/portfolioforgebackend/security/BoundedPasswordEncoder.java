@@ -0,0 +1,169 @@
+package za.co.nemesisnet.portfolioforgebackend.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import za.co.nemesisnet.portfolioforgebackend.exception.ServiceOverloadedException;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs password hashing and verification of the wrapped encoder on a small, fixed-size pool with a
+ * bounded queue. A login burst can then occupy at most {@code threads} cores; anything beyond the queue
+ * is rejected immediately with 503 instead of piling up on Tomcat workers, so cheap requests keep flowing.
+ * Each operation is timed per algorithm and BCrypt cost factor.
+ * <p>
+ * A caller that gives up after {@code waitTimeoutMs} cannot stop a hash that is already running: BCrypt
+ * does not check for interruption, so that computation always finishes and its result is discarded.
+ * What is dropped is work that has not started yet: the timed-out task is cancelled and purged from the
+ * queue, and any task that reaches a worker after its caller's deadline is skipped. Abandoned work can
+ * therefore hold each thread for at most one hash, never for a whole queue of them.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoundedPasswordEncoder.class);
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final ExecutorService monitoredExecutor;
+    private final long waitTimeoutMs;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>(); // "<operation>:<cost>" -> timer
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long waitTimeoutMs,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.meterRegistry = meterRegistry;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                daemonThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()); // Fast rejection when the queue is full
+        // Publishes pool size, active threads and queue depth as executor.* metrics tagged name=passwordHashing
+        this.monitoredExecutor = ExecutorServiceMetrics.monitor(meterRegistry, executor, "passwordHashing");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute("encode", () -> {
+            long start = System.nanoTime();
+            String encoded = delegate.encode(rawPassword);
+            record("encode", encoded, start);
+            return encoded;
+        });
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute("matches", () -> {
+            long start = System.nanoTime();
+            boolean matches = delegate.matches(rawPassword, encodedPassword);
+            record("matches", encodedPassword, start);
+            return matches;
+        });
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword); // Cheap string inspection, no hashing
+    }
+
+    // Destroy callback (inferred by Spring from the method name)
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(String operation, Callable<T> task) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMs);
+        Future<T> future;
+        try {
+            future = monitoredExecutor.submit(() -> {
+                // Nobody is waiting for the result any more, so don't spend a hash on it
+                if (System.nanoTime() - deadline > 0) {
+                    throw new CancellationException("Caller stopped waiting for password " + operation);
+                }
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            logger.warn("Password hashing queue full; rejecting {} request", operation);
+            throw new ServiceOverloadedException("The server is busy. Please try again shortly.", RETRY_AFTER_SECONDS);
+        }
+
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            abandon(future);
+            logger.warn("Password {} did not complete within {} ms", operation, waitTimeoutMs);
+            throw new ServiceOverloadedException("The server is busy. Please try again shortly.", RETRY_AFTER_SECONDS);
+        } catch (InterruptedException e) {
+            abandon(future);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password " + operation, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException; // e.g. IllegalArgumentException for a malformed hash, as without the pool
+            }
+            throw new IllegalStateException("Password " + operation + " failed", e.getCause());
+        }
+    }
+
+    // Drops the task if it is still queued; a hash that already started runs to completion regardless
+    private void abandon(Future<?> future) {
+        if (future.cancel(false)) {
+            executor.purge(); // Frees the queue slot now instead of when a worker reaches the cancelled task
+        }
+    }
+
+    private void record(String operation, String encodedPassword, long startNanos) {
+        String algorithm = algorithmOf(encodedPassword);
+        int bcryptCost = algorithm.equals("bcrypt") ? TunableBCryptPasswordEncoder.costOf(stripId(encodedPassword)) : -1;
+        String cost = bcryptCost < 0 ? "unknown" : String.valueOf(bcryptCost);
+        timers.computeIfAbsent(operation + ":" + algorithm + ":" + cost, key -> Timer.builder("portfolioforge.password.hashing")
+                        .description("Time spent hashing or verifying a password, excluding queue wait")
+                        .tag("operation", operation)
+                        .tag("algorithm", algorithm)
+                        .tag("cost", cost)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // "{bcrypt}$2a$12$..." -> "bcrypt"; legacy hashes without an id prefix are plain BCrypt
+    private static String algorithmOf(String encodedPassword) {
+        if (encodedPassword == null) {
+            return "unknown";
+        }
+        if (encodedPassword.startsWith("{")) {
+            int end = encodedPassword.indexOf('}');
+            return end > 1 ? encodedPassword.substring(1, end) : "unknown";
+        }
+        return encodedPassword.startsWith("$2") ? "bcrypt" : "unknown";
+    }
+
+    private static String stripId(String encodedPassword) {
+        return encodedPassword.startsWith("{") ? encodedPassword.substring(encodedPassword.indexOf('}') + 1) : encodedPassword;
+    }
+
+    private static CustomizableThreadFactory daemonThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hashing-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
@@ -1,13 +1,17 @@
 package za.co.nemesisnet.portfolioforgebackend.security;
 
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull; // Use Spring's NonNull for better static analysis hints
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,11 +21,14 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils; // Utility for checking strings
 import org.springframework.web.filter.OncePerRequestFilter; // Ensures filter runs only once per request
+import za.co.nemesisnet.portfolioforgebackend.service.TokenRevocationService;
+import za.co.nemesisnet.portfolioforgebackend.service.UserDetailsImpl;
 
 import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Component // Mark as a Spring component so it can be picked up or injected
-@RequiredArgsConstructor
 // Inside JwtAuthenticationFilter.java
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -30,6 +37,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
+
+    // Phase timings: 'verify' = parse + signature/expiry check (or verified-token cache hit),
+    // 'load-user' = building the principal (database/cache lookup or token-version check)
+    private final Timer verifyTimer;
+    private final Timer loadUserTimer;
+
+    // Per-request outcomes are counted rather than logged; logging them cost more than the authentication itself
+    private final Counter authenticatedCounter;
+    private final Counter noTokenCounter;
+    private final Counter invalidCounter;
+    private final Counter revokedCounter;
+    private final Counter errorCounter;
+
+    // When true, the principal is built from the token's claims instead of loading the user per request
+    @Value("${portfolioforge.security.stateless-auth:false}")
+    private boolean statelessAuth;
+
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider,
+                                   UserDetailsService userDetailsService,
+                                   TokenRevocationService tokenRevocationService,
+                                   MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+        this.userDetailsService = userDetailsService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.verifyTimer = phaseTimer(meterRegistry, "verify");
+        this.loadUserTimer = phaseTimer(meterRegistry, "load-user");
+        this.authenticatedCounter = outcomeCounter(meterRegistry, "authenticated");
+        this.noTokenCounter = outcomeCounter(meterRegistry, "no-token");
+        this.invalidCounter = outcomeCounter(meterRegistry, "invalid");
+        this.revokedCounter = outcomeCounter(meterRegistry, "revoked");
+        this.errorCounter = outcomeCounter(meterRegistry, "error");
+    }
 
     @Override
     protected void doFilterInternal(
@@ -38,51 +78,89 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain)
             throws ServletException, IOException {
 
-        filterLogger.info("Processing request: {}", request.getRequestURI()); // Log request URI
-
-        String jwt = null; // Initialize jwt to null
         try {
-            jwt = getJwtFromRequest(request); // Get token first
-
-            if (jwt != null) { // Log if token is found
-                filterLogger.info("JWT Token found in request header.");
-
-                if (tokenProvider.validateToken(jwt)) { // Check validation result
-                    filterLogger.info("JWT Token is valid.");
-                    String username = tokenProvider.getUsernameFromJwt(jwt);
-                    filterLogger.info("Username extracted from token: {}", username);
-
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                    filterLogger.info("UserDetails loaded for username: {}", username);
-
-                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities());
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    filterLogger.info("Authentication set in SecurityContext for user: {}", username);
-
+            String jwt = getJwtFromRequest(request);
+            if (jwt == null) {
+                noTokenCounter.increment(); // Public endpoints; nothing to authenticate
+            } else {
+                // Single verification pass: signature and expiry are checked once (or answered from cache)
+                long verifyStart = System.nanoTime();
+                Optional<Claims> claims = tokenProvider.getVerifiedClaims(jwt);
+                verifyTimer.record(System.nanoTime() - verifyStart, TimeUnit.NANOSECONDS);
+                if (claims.isPresent()) {
+                    String username = claims.get().getSubject();
+
+                    long loadUserStart = System.nanoTime();
+                    UserDetails userDetails = resolvePrincipal(claims.get(), username);
+                    loadUserTimer.record(System.nanoTime() - loadUserStart, TimeUnit.NANOSECONDS);
+                    if (userDetails != null) {
+                        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                                userDetails, null, userDetails.getAuthorities());
+                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                        authenticatedCounter.increment();
+                    } else {
+                        revokedCounter.increment();
+                        filterLogger.debug("JWT Token has been revoked for user: {}", username);
+                    }
                 } else {
-                    filterLogger.warn("JWT Token validation failed."); // Log validation failure
+                    invalidCounter.increment(); // Reason is counted by JwtTokenProvider
                 }
-            } else {
-                filterLogger.info("No JWT Token found in Authorization header."); // Log if token is missing
             }
-
         } catch (Exception ex) {
-            filterLogger.error("Authentication error in JWT filter: {}", ex.getMessage(), ex); // Log full exception
+            errorCounter.increment();
+            filterLogger.error("Authentication error in JWT filter: {}", ex.getMessage(), ex); // Unexpected: keep the stack trace
         }
 
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Builds the principal for a verified token, or returns null if the token has been revoked.
+     * In stateless mode the principal comes straight from the claims and only the (cached) token version
+     * is checked; otherwise, or for tokens issued without these claims, the user is loaded from the database.
+     */
+    private UserDetails resolvePrincipal(Claims claims, String username) {
+        Number userId = claims.get(JwtTokenProvider.CLAIM_USER_ID, Number.class);
+        String role = claims.get(JwtTokenProvider.CLAIM_ROLE, String.class);
+        Number tokenVersion = claims.get(JwtTokenProvider.CLAIM_TOKEN_VERSION, Number.class);
+
+        if (statelessAuth && userId != null && role != null && tokenVersion != null) {
+            if (!tokenRevocationService.isTokenVersionCurrent(userId.longValue(), tokenVersion.intValue())) {
+                return null;
+            }
+            return new UserDetailsImpl(userId.longValue(), username, null, role, tokenVersion.intValue());
+        }
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        if (tokenVersion != null && userDetails instanceof UserDetailsImpl loaded
+                && loaded.getTokenVersion() != tokenVersion.intValue()) {
+            return null;
+        }
+        return userDetails;
+    }
+
+    private static Timer phaseTimer(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder("portfolioforge.auth.jwt-filter")
+                .description("Time spent per phase of JWT authentication")
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("portfolioforge.auth.jwt-filter.requests")
+                .description("Requests seen by the JWT filter, by authentication outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            filterLogger.debug("Authorization header found: {}", bearerToken); // Log found header
-            return bearerToken.substring(7);
+            return bearerToken.substring(7); // Never log the header: it is a credential
         }
-        filterLogger.debug("No Bearer token found in Authorization header."); // Log missing Bearer
         return null;
     }
 }
@@ -1,34 +1,99 @@
 package za.co.nemesisnet.portfolioforgebackend.security;
 
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import za.co.nemesisnet.portfolioforgebackend.service.UserDetailsImpl;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Component // Mark as a Spring component
 public class JwtTokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
+    // Custom claims that let the filter rebuild the principal without a database lookup
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
     @Value("${portfolioforge.jwt.secret}") // Inject secret from application.properties
     private String jwtSecret;
 
     @Value("${portfolioforge.jwt.expiration-ms}") // Inject expiration time
     private int jwtExpirationMs;
 
-    private SecretKey key() {
+    @Value("${portfolioforge.jwt.verified-cache.max-entries:10000}") // Max number of verified tokens kept in memory
+    private long verifiedCacheMaxEntries;
+
+    @Autowired(required = false) // Absent when constructed outside Spring (e.g. the JMH benchmarks)
+    private MeterRegistry meterRegistry;
+
+    private SecretKey key; // Decoded once at startup instead of on every call
+    private JwtParser parser; // Immutable and thread-safe, so one instance is shared
+    private Cache<String, Claims> verifiedTokens; // SHA-256 digest of token -> claims, kept until the token's exp
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>(); // reason -> counter
+
+    @PostConstruct
+    void init() {
         // Generate SecretKey from the base64 encoded secret string
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        this.parser = Jwts.parser()
+                .verifyWith(key) // Verify using the secret key
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxEntries)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+                        // Honour the token's own expiry: the entry disappears exactly when the token would fail validation
+                        long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, Claims claims, long currentTime, long currentDuration) {
+                        return expireAfterCreate(digest, claims, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        if (meterRegistry == null) {
+            meterRegistry = Metrics.globalRegistry; // No-op unless a registry was added to it
+        }
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verifiedTokens");
     }
 
     // Generate JWT token from Authentication object
@@ -41,44 +106,98 @@ public class JwtTokenProvider {
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
         // Build the JWT token
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(username) // Set username as the subject
                 .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(key(), Jwts.SIG.HS512) // Sign with HS512 algorithm and the secret key
+                .expiration(expiryDate);
+
+        if (authentication.getPrincipal() instanceof UserDetailsImpl userDetails) {
+            // Always embedded, so stateless authentication can be switched on without re-issuing tokens
+            builder.claim(CLAIM_USER_ID, userDetails.getId())
+                    .claim(CLAIM_ROLE, userDetails.getAuthorities().iterator().next().getAuthority())
+                    .claim(CLAIM_TOKEN_VERSION, userDetails.getTokenVersion());
+        }
+
+        return builder
+                .signWith(key, Jwts.SIG.HS512) // Sign with HS512 algorithm and the secret key
                 .compact();
     }
 
-    // Get username from JWT token
-    public String getUsernameFromJwt(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key()) // Verify using the secret key
-                .build()
-                .parseSignedClaims(token)
-                .getPayload(); // Get the payload/claims part
+    /**
+     * Verifies the token's signature and expiration once and returns its claims.
+     * Tokens that were already verified are answered from memory until they expire,
+     * so repeat requests with the same token skip parsing and HMAC verification.
+     *
+     * @param token The compact JWT string (without the "Bearer " prefix).
+     * @return The verified claims, or empty if the token is invalid or expired.
+     */
+    public Optional<Claims> getVerifiedClaims(String token) {
+        if (!StringUtils.hasText(token)) {
+            reject("empty", "JWT claims string is empty: '{}'", token);
+            return Optional.empty();
+        }
 
-        return claims.getSubject(); // Extract the username (subject)
-    }
+        String digest = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            if (cached.getExpiration().after(new Date())) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.invalidate(digest); // Expired between cache maintenance runs
+            reject("expired", "Expired JWT token: expired at {}", cached.getExpiration());
+            return Optional.empty();
+        }
 
-    // Validate JWT token
-    public boolean validateToken(String authToken) {
         try {
-            Jwts.parser()
-                    .verifyWith(key()) // Verify using the secret key
-                    .build()
-                    .parseSignedClaims(authToken); // Parse and validate signature/expiration
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload(); // Parse and validate signature/expiration
+            if (claims.getExpiration() != null) { // Only tokens with an expiry can be cached safely
+                verifiedTokens.put(digest, claims);
+            }
+            return Optional.of(claims);
         } catch (SignatureException ex) {
-            logger.error("Invalid JWT signature: {}", ex.getMessage());
+            reject("signature", "Invalid JWT signature: {}", ex.getMessage());
         } catch (MalformedJwtException ex) {
-            logger.error("Invalid JWT token: {}", ex.getMessage());
+            reject("malformed", "Invalid JWT token: {}", ex.getMessage());
         } catch (ExpiredJwtException ex) {
-            logger.error("Expired JWT token: {}", ex.getMessage());
+            reject("expired", "Expired JWT token: {}", ex.getMessage());
         } catch (UnsupportedJwtException ex) {
-            logger.error("Unsupported JWT token: {}", ex.getMessage());
+            reject("unsupported", "Unsupported JWT token: {}", ex.getMessage());
         } catch (IllegalArgumentException ex) {
-            logger.error("JWT claims string is empty: {}", ex.getMessage());
+            reject("empty", "JWT claims string is empty: {}", ex.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    // Rejected tokens are routine (every expired session produces one), so they are counted, not logged as errors.
+    // The detail is a log argument, so no message is built unless DEBUG is on.
+    private void reject(String reason, String message, Object detail) {
+        rejections.computeIfAbsent(reason, key -> Counter.builder("portfolioforge.auth.token.rejections")
+                        .description("Bearer tokens that failed validation, by reason")
+                        .tag("reason", key)
+                        .register(meterRegistry))
+                .increment();
+        logger.debug(message, detail);
+    }
+
+    // Get username from JWT token
+    public String getUsernameFromJwt(String token) {
+        return getVerifiedClaims(token)
+                .map(Claims::getSubject) // Extract the username (subject)
+                .orElseThrow(() -> new JwtException("Invalid JWT token"));
+    }
+
+    // Validate JWT token
+    public boolean validateToken(String authToken) {
+        return getVerifiedClaims(authToken).isPresent();
+    }
+
+    // Cache key: the raw token is never stored, only its SHA-256 digest
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e); // Mandatory in every JRE
         }
-        return false;
     }
 }
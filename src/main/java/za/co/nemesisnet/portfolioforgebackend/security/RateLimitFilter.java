@@ -0,0 +1,87 @@
+package za.co.nemesisnet.portfolioforgebackend.security;
+
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.ErrorDetails;
+import za.co.nemesisnet.portfolioforgebackend.exception.RateLimitExceededException;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Rejects floods on the public write endpoints with 429 before they reach authentication,
+ * controllers or the database. Runs ahead of the JWT filter in the security chain.
+ * The client IP is the servlet remote address; behind a reverse proxy enable
+ * server.forward-headers-strategy so it reflects the real client instead of the proxy.
+ * Endpoints are matched on the decoded path without ";" parameters, the same form Spring MVC routes on,
+ * so "/api/v1/auth/%6Cogin" or "/api/v1/auth/login;x=y" are throttled like "/api/v1/auth/login".
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String CONTACT_PATTERN = "/api/v1/portfolios/{slugOrUsername}/contact";
+    private static final String LOGIN_PATH = "/api/v1/auth/login";
+    private static final String REGISTER_PATH = "/api/v1/auth/register";
+
+    private final RateLimitService rateLimitService;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper(); // Decodes and strips ";" content by default
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()); // Only the POST endpoints are throttled
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String path = urlPathHelper.getPathWithinApplication(request);
+        String clientIp = request.getRemoteAddr();
+        try {
+            if (pathMatcher.match(CONTACT_PATTERN, path)) {
+                Map<String, String> variables = pathMatcher.extractUriTemplateVariables(CONTACT_PATTERN, path);
+                rateLimitService.checkContactSubmission(clientIp, variables.get("slugOrUsername"));
+            } else if (LOGIN_PATH.equals(path)) {
+                rateLimitService.checkLogin(clientIp);
+            } else if (REGISTER_PATH.equals(path)) {
+                rateLimitService.checkRegistration(clientIp);
+            }
+        } catch (RateLimitExceededException ex) {
+            writeTooManyRequests(request, response, ex);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void writeTooManyRequests(HttpServletRequest request, HttpServletResponse response,
+                                      RateLimitExceededException ex) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        // Same body shape as GlobalExceptionHandler responses
+        ErrorDetails errorDetails = new ErrorDetails(LocalDateTime.now(), ex.getMessage(), "uri=" + request.getRequestURI());
+        objectMapper.writeValue(response.getOutputStream(), errorDetails);
+    }
+}
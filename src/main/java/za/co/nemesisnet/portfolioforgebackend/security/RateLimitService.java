@@ -0,0 +1,78 @@
+package za.co.nemesisnet.portfolioforgebackend.security;
+
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import za.co.nemesisnet.portfolioforgebackend.exception.RateLimitExceededException;
+
+import java.util.Locale;
+
+/**
+ * In-memory throttling for the unauthenticated endpoints that are expensive to serve:
+ * contact submissions (database writes) and login/registration (BCrypt hashing).
+ * Limits are per node; with several instances the effective limit is multiplied by the node count.
+ */
+@Component
+public class RateLimitService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitService.class);
+
+    private final boolean enabled;
+    private final RateLimiter contactPerIp;
+    private final RateLimiter contactPerRecipient;
+    private final RateLimiter loginPerIp;
+    private final RateLimiter loginPerUsername;
+    private final RateLimiter registerPerIp;
+
+    public RateLimitService(MeterRegistry meterRegistry,
+                            @Value("${portfolioforge.rate-limit.enabled:true}") boolean enabled,
+                            @Value("${portfolioforge.rate-limit.max-keys:100000}") long maxKeys,
+                            @Value("${portfolioforge.rate-limit.contact-per-ip.capacity:5}") int contactPerIpCapacity,
+                            @Value("${portfolioforge.rate-limit.contact-per-ip.refill-per-minute:2}") int contactPerIpRefill,
+                            @Value("${portfolioforge.rate-limit.contact-per-recipient.capacity:30}") int contactPerRecipientCapacity,
+                            @Value("${portfolioforge.rate-limit.contact-per-recipient.refill-per-minute:10}") int contactPerRecipientRefill,
+                            @Value("${portfolioforge.rate-limit.login-per-ip.capacity:10}") int loginPerIpCapacity,
+                            @Value("${portfolioforge.rate-limit.login-per-ip.refill-per-minute:5}") int loginPerIpRefill,
+                            @Value("${portfolioforge.rate-limit.login-per-username.capacity:5}") int loginPerUsernameCapacity,
+                            @Value("${portfolioforge.rate-limit.login-per-username.refill-per-minute:1}") int loginPerUsernameRefill,
+                            @Value("${portfolioforge.rate-limit.register-per-ip.capacity:3}") int registerPerIpCapacity,
+                            @Value("${portfolioforge.rate-limit.register-per-ip.refill-per-minute:1}") int registerPerIpRefill) {
+        this.enabled = enabled;
+        this.contactPerIp = new RateLimiter("contact-per-ip", contactPerIpCapacity, contactPerIpRefill, maxKeys, meterRegistry);
+        this.contactPerRecipient = new RateLimiter("contact-per-recipient", contactPerRecipientCapacity, contactPerRecipientRefill, maxKeys, meterRegistry);
+        this.loginPerIp = new RateLimiter("login-per-ip", loginPerIpCapacity, loginPerIpRefill, maxKeys, meterRegistry);
+        this.loginPerUsername = new RateLimiter("login-per-username", loginPerUsernameCapacity, loginPerUsernameRefill, maxKeys, meterRegistry);
+        this.registerPerIp = new RateLimiter("register-per-ip", registerPerIpCapacity, registerPerIpRefill, maxKeys, meterRegistry);
+    }
+
+    // Contact form: both the sender's IP and the target portfolio are limited
+    public void checkContactSubmission(String clientIp, String recipientSlugOrUsername) {
+        check(contactPerIp, clientIp);
+        // Slugs are lowercase and MySQL's default collation matches usernames case-insensitively,
+        // so every spelling that reaches the same recipient shares one bucket
+        check(contactPerRecipient, recipientSlugOrUsername.trim().toLowerCase(Locale.ROOT));
+    }
+
+    public void checkLogin(String clientIp) {
+        check(loginPerIp, clientIp);
+    }
+
+    // Per-account limit: stops password guessing against one user spread across many IPs
+    public void checkLoginUsername(String usernameOrEmail) {
+        check(loginPerUsername, usernameOrEmail.trim().toLowerCase(Locale.ROOT));
+    }
+
+    public void checkRegistration(String clientIp) {
+        check(registerPerIp, clientIp);
+    }
+
+    private void check(RateLimiter limiter, String key) {
+        if (enabled && !limiter.tryAcquire(key)) {
+            logger.debug("Rate limit '{}' exceeded for key '{}'", limiter.getName(), key); // Debug: floods would flood the log too
+            throw new RateLimitExceededException("Too many requests. Please try again later.", limiter.retryAfterSeconds());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package za.co.nemesisnet.portfolioforgebackend.security;
+
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * One named rate limit: a token bucket per key (client IP, recipient slug, username...).
+ * Buckets live in a bounded Caffeine map and are dropped once idle long enough to be full again,
+ * at which point a fresh bucket behaves identically, so eviction never loosens the limit.
+ */
+public final class RateLimiter {
+
+    private final String name;
+    private final int capacity;
+    private final int refillPerMinute;
+    private final Cache<String, TokenBucket> buckets;
+    private final Counter rejections;
+    private final LongSupplier nanoClock;
+
+    public RateLimiter(String name, int capacity, int refillPerMinute, long maxKeys, MeterRegistry meterRegistry) {
+        this(name, capacity, refillPerMinute, maxKeys, meterRegistry, System::nanoTime);
+    }
+
+    // The clock drives both refills and bucket expiry, so tests can move time deterministically
+    RateLimiter(String name, int capacity, int refillPerMinute, long maxKeys, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.name = name;
+        this.nanoClock = nanoClock;
+        this.capacity = capacity;
+        this.refillPerMinute = Math.max(1, refillPerMinute);
+        long fullRefillMs = (long) Math.ceil(capacity * 60_000d / this.refillPerMinute);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofMillis(Math.max(1, fullRefillMs)))
+                .ticker(nanoClock::getAsLong)
+                .build();
+        // Only the number of tracked keys is interesting here; hit ratios say nothing about a rate limiter
+        Gauge.builder("portfolioforge.rate-limit.tracked-keys", buckets, Cache::estimatedSize)
+                .tag("limit", name)
+                .register(meterRegistry);
+        this.rejections = Counter.builder("portfolioforge.rate-limit.rejections")
+                .tag("limit", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes one token from the key's bucket.
+     *
+     * @return true if the request is allowed; always true when the capacity is 0 (limit disabled).
+     */
+    public boolean tryAcquire(String key) {
+        if (capacity <= 0) {
+            return true;
+        }
+        boolean allowed = buckets.get(key, k -> new TokenBucket(capacity, refillPerMinute, nanoClock)).tryConsume();
+        if (!allowed) {
+            rejections.increment();
+        }
+        return allowed;
+    }
+
+    /** Time until at least one token is back in an empty bucket. */
+    public long retryAfterSeconds() {
+        return Math.max(1, (long) Math.ceil(60d / refillPerMinute));
+    }
+
+    public String getName() {
+        return name;
+    }
+}
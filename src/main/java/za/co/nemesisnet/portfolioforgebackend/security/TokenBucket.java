@@ -0,0 +1,42 @@
+package za.co.nemesisnet.portfolioforgebackend.security;
+
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket: up to {@code capacity} tokens, refilled continuously at a fixed rate.
+ * State is an immutable snapshot swapped with compare-and-set, so concurrent requests for the
+ * same key never block each other, and rejected requests don't write at all.
+ */
+final class TokenBucket {
+
+    private record State(double tokens, long refilledAtNanos) {}
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+    private final LongSupplier nanoClock; // System::nanoTime outside tests
+
+    TokenBucket(int capacity, int refillPerMinute, LongSupplier nanoClock) {
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerMinute / 60_000_000_000d;
+        this.nanoClock = nanoClock;
+        this.state = new AtomicReference<>(new State(capacity, nanoClock.getAsLong())); // New buckets start full
+    }
+
+    boolean tryConsume() {
+        while (true) {
+            State current = state.get();
+            long now = nanoClock.getAsLong();
+            double available = Math.min(capacity, current.tokens() + (now - current.refilledAtNanos()) * tokensPerNano);
+            if (available < 1) {
+                return false;
+            }
+            if (state.compareAndSet(current, new State(available - 1, now))) {
+                return true;
+            }
+            // Another request consumed concurrently; retry with the fresh state
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package za.co.nemesisnet.portfolioforgebackend.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt encoder that exposes its target cost and parses the cost of stored hashes (for metrics).
+ * Only hashes weaker than the target are reported as needing an upgrade: a stronger stored hash is
+ * never rewritten with a lower cost, so lowering 'strength' (or running nodes with different settings)
+ * cannot silently weaken existing passwords or make nodes rehash each other's hashes back and forth.
+ */
+public class TunableBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private final int strength;
+
+    public TunableBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int cost = costOf(encodedPassword);
+        return cost < 0 ? super.upgradeEncoding(encodedPassword) : cost < strength;
+    }
+
+    // $2a$12$... -> 12, or -1 if the value is not a BCrypt hash
+    static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$'
+                || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package za.co.nemesisnet.portfolioforgebackend.service;
+
+
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.BulkImportResultDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Streaming import and export of a user's projects and skills as JSON arrays of ProjectDTO / SkillDTO.
+ * Neither direction holds the whole document in memory: exports write rows as they are read from the
+ * database, imports parse one item at a time and insert them in JDBC batches within one transaction.
+ */
+public interface BulkContentService {
+
+    /**
+     * Write all of a user's projects, in display order, as a JSON array.
+     * @param userId The ID of the user.
+     * @param out The stream to write to; it is flushed but not closed.
+     */
+    void exportProjects(Long userId, OutputStream out) throws IOException;
+
+    /**
+     * Insert every project of a JSON array. All or nothing: an invalid item rolls back the whole import.
+     * @param userId The ID of the user the projects are created for.
+     * @param in The JSON array; read to its end but not closed.
+     * @return The number of projects created.
+     * @throws IllegalArgumentException if the JSON is malformed, an item is invalid or there are too many items.
+     */
+    BulkImportResultDTO importProjects(Long userId, InputStream in) throws IOException;
+
+    /**
+     * Write all of a user's skills, ordered by category then name, as a JSON array.
+     * @param userId The ID of the user.
+     * @param out The stream to write to; it is flushed but not closed.
+     */
+    void exportSkills(Long userId, OutputStream out) throws IOException;
+
+    /**
+     * Insert every skill of a JSON array whose name the user doesn't have yet (case-insensitive);
+     * the others are skipped. All or nothing: an invalid item rolls back the whole import.
+     * @param userId The ID of the user the skills are created for.
+     * @param in The JSON array; read to its end but not closed.
+     * @return The numbers of skills created and skipped.
+     * @throws IllegalArgumentException if the JSON is malformed, an item is invalid or there are too many items.
+     */
+    BulkImportResultDTO importSkills(Long userId, InputStream in) throws IOException;
+}
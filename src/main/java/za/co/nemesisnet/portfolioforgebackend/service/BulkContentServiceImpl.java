@@ -0,0 +1,334 @@
+package za.co.nemesisnet.portfolioforgebackend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import za.co.nemesisnet.portfolioforgebackend.domain.Project;
+import za.co.nemesisnet.portfolioforgebackend.domain.Skill;
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.BulkImportResultDTO;
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.ProjectDTO;
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.SkillDTO;
+import za.co.nemesisnet.portfolioforgebackend.event.PortfolioContentChangedEvent;
+import za.co.nemesisnet.portfolioforgebackend.exception.ResourceNotFoundException;
+import za.co.nemesisnet.portfolioforgebackend.repository.UserRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Service
+public class BulkContentServiceImpl implements BulkContentService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkContentServiceImpl.class);
+
+    private static final String SELECT_PROJECTS_SQL =
+            "SELECT id, title, description, technologies, image_url, live_url, repo_url, display_order " +
+            "FROM projects WHERE user_id = ? ORDER BY display_order ASC, created_at DESC";
+    private static final String INSERT_PROJECTS_SQL =
+            "INSERT INTO projects (title, description, technologies, image_url, live_url, repo_url, display_order, created_at, updated_at, user_id) VALUES ";
+    private static final int PROJECT_COLUMNS = 10;
+    private static final String SELECT_SKILLS_SQL =
+            "SELECT name, category, icon FROM skills WHERE user_id = ? ORDER BY category ASC, name ASC";
+    private static final String SELECT_SKILL_NAMES_SQL = "SELECT name FROM skills WHERE user_id = ?";
+    private static final String INSERT_SKILLS_SQL = "INSERT INTO skills (name, category, icon, user_id) VALUES ";
+    private static final int SKILL_COLUMNS = 4;
+
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate writeTransaction;
+    private final int batchSize;
+    private final int fetchSize;
+    private final int maxItems;
+
+    public BulkContentServiceImpl(UserRepository userRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  ObjectMapper objectMapper,
+                                  Validator validator,
+                                  EntityManagerFactory entityManagerFactory,
+                                  JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${portfolioforge.bulk.batch-size:500}") int batchSize,
+                                  @Value("${portfolioforge.bulk.fetch-size:500}") int fetchSize,
+                                  @Value("${portfolioforge.bulk.max-items:10000}") int maxItems) {
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        this.jdbcTemplate = jdbcTemplate;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.fetchSize = fetchSize;
+        this.maxItems = maxItems;
+    }
+
+    // --- Export ---
+
+    @Override
+    public void exportProjects(Long userId, OutputStream out) throws IOException {
+        writeArray(out, generator -> jdbcTemplate.query(streamingQuery(SELECT_PROJECTS_SQL, userId), (RowCallbackHandler) rs -> {
+            ProjectDTO dto = new ProjectDTO();
+            dto.setId(rs.getLong("id"));
+            dto.setTitle(rs.getString("title"));
+            dto.setDescription(rs.getString("description"));
+            dto.setTechnologies(rs.getString("technologies"));
+            dto.setImageUrl(rs.getString("image_url"));
+            dto.setLiveUrl(rs.getString("live_url"));
+            dto.setRepoUrl(rs.getString("repo_url"));
+            dto.setDisplayOrder(rs.getInt("display_order"));
+            writeItem(generator, dto);
+        }));
+    }
+
+    @Override
+    public void exportSkills(Long userId, OutputStream out) throws IOException {
+        writeArray(out, generator -> jdbcTemplate.query(streamingQuery(SELECT_SKILLS_SQL, userId), (RowCallbackHandler) rs -> {
+            SkillDTO dto = new SkillDTO();
+            dto.setName(rs.getString("name"));
+            dto.setCategory(rs.getString("category"));
+            dto.setIcon(rs.getString("icon"));
+            writeItem(generator, dto);
+        }));
+    }
+
+    // Only this statement streams; everything else keeps the driver's default (buffered, client-side prepared).
+    // Connector/J streams row by row only for a forward-only, read-only statement with fetch size Integer.MIN_VALUE,
+    // which other drivers reject, so they get the configured fetch size instead.
+    private PreparedStatementCreator streamingQuery(String sql, Long userId) {
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql");
+            statement.setFetchSize(mysql ? Integer.MIN_VALUE : fetchSize);
+            statement.setLong(1, userId);
+            return statement;
+        };
+    }
+
+    // Each row is written (and flushed in buffer-sized chunks) as soon as it is read
+    private void writeArray(OutputStream out, Consumer<JsonGenerator> rows) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // The caller owns the stream
+            generator.writeStartArray();
+            rows.accept(generator);
+            generator.writeEndArray();
+        } catch (UncheckedIOException e) {
+            throw e.getCause(); // Typically the client went away mid-download
+        }
+    }
+
+    private static void writeItem(JsonGenerator generator, Object item) {
+        try {
+            generator.writeObject(item);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // --- Import ---
+
+    @Override
+    public BulkImportResultDTO importProjects(Long userId, InputStream in) throws IOException {
+        requireUser(userId);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        BulkImportResultDTO result = inTransaction(() -> {
+            List<ProjectDTO> batch = new ArrayList<>(batchSize);
+            int[] created = {0};
+            readArray(in, ProjectDTO.class, project -> {
+                batch.add(project);
+                if (batch.size() == batchSize) {
+                    created[0] += insertProjects(userId, batch, now);
+                }
+            });
+            created[0] += insertProjects(userId, batch, now);
+            return new BulkImportResultDTO(created[0], 0);
+        }, userId);
+        log.info("Imported {} project(s) for user ID {}", result.getCreated(), userId);
+        return result;
+    }
+
+    @Override
+    public BulkImportResultDTO importSkills(Long userId, InputStream in) throws IOException {
+        requireUser(userId);
+        BulkImportResultDTO result = inTransaction(() -> {
+            // One query for every existing name instead of one duplicate check per skill.
+            // Compared case-insensitively, like the utf8mb4_unicode_ci column and SkillServiceImpl.updateSkill.
+            Set<String> knownNames = jdbcTemplate.queryForList(SELECT_SKILL_NAMES_SQL, String.class, userId).stream()
+                    .map(BulkContentServiceImpl::normalizeName)
+                    .collect(Collectors.toCollection(HashSet::new));
+            List<SkillDTO> batch = new ArrayList<>(batchSize);
+            int[] counts = {0, 0}; // created, skipped
+            readArray(in, SkillDTO.class, skill -> {
+                if (!knownNames.add(normalizeName(skill.getName()))) {
+                    counts[1]++; // Already exists, or repeated in this upload
+                    return;
+                }
+                batch.add(skill);
+                if (batch.size() == batchSize) {
+                    counts[0] += insertSkills(userId, batch);
+                }
+            });
+            counts[0] += insertSkills(userId, batch);
+            return new BulkImportResultDTO(counts[0], counts[1]);
+        }, userId);
+        log.info("Imported {} skill(s) for user ID {} ({} duplicate(s) skipped)", result.getCreated(), userId, result.getSkipped());
+        return result;
+    }
+
+    private int insertProjects(Long userId, List<ProjectDTO> batch, Timestamp now) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        NativeQuery<?> insert = multiRowInsert(INSERT_PROJECTS_SQL, PROJECT_COLUMNS, batch.size(), Project.class);
+        int position = 1;
+        for (ProjectDTO project : batch) {
+            insert.setParameter(position++, project.getTitle(), String.class);
+            insert.setParameter(position++, project.getDescription(), String.class);
+            insert.setParameter(position++, project.getTechnologies(), String.class);
+            insert.setParameter(position++, project.getImageUrl(), String.class);
+            insert.setParameter(position++, project.getLiveUrl(), String.class);
+            insert.setParameter(position++, project.getRepoUrl(), String.class);
+            insert.setParameter(position++, project.getDisplayOrder() != null ? project.getDisplayOrder() : 0, Integer.class);
+            insert.setParameter(position++, now, Timestamp.class);
+            insert.setParameter(position++, now, Timestamp.class);
+            insert.setParameter(position++, userId, Long.class);
+        }
+        int inserted = insert.executeUpdate();
+        batch.clear();
+        return inserted;
+    }
+
+    private int insertSkills(Long userId, List<SkillDTO> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        NativeQuery<?> insert = multiRowInsert(INSERT_SKILLS_SQL, SKILL_COLUMNS, batch.size(), Skill.class);
+        int position = 1;
+        for (SkillDTO skill : batch) {
+            insert.setParameter(position++, skill.getName(), String.class);
+            insert.setParameter(position++, skill.getCategory(), String.class);
+            insert.setParameter(position++, skill.getIcon(), String.class);
+            insert.setParameter(position++, userId, Long.class);
+        }
+        int inserted = insert.executeUpdate();
+        batch.clear();
+        return inserted;
+    }
+
+    /**
+     * One INSERT with a VALUES row per item, so a batch is a single statement. It runs as a Hibernate native
+     * query synchronized with the entity's table: Hibernate invalidates that table's cached query results as
+     * part of the commit, before any after-commit listener (the public snapshot eviction) can run, so the next
+     * read can't be served from a list cached before the import.
+     */
+    private NativeQuery<?> multiRowInsert(String insertPrefix, int columns, int rows, Class<?> entityClass) {
+        String row = IntStream.range(0, columns).mapToObj(column -> "?").collect(Collectors.joining(", ", "(", ")"));
+        String sql = insertPrefix + String.join(", ", Collections.nCopies(rows, row));
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(entityClass);
+    }
+
+    /**
+     * Parses a JSON array one object at a time, validating each item before handing it on.
+     * Only the current item is ever materialised.
+     */
+    private <T> void readArray(InputStream in, Class<T> type, Consumer<T> handler) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE); // The caller owns the stream
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array of " + type.getSimpleName() + " objects");
+            }
+            int index = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                if (index >= maxItems) {
+                    throw new IllegalArgumentException("At most " + maxItems + " items can be imported per request");
+                }
+                T item = objectMapper.readValue(parser, type);
+                validate(item, index);
+                handler.accept(item);
+                index++;
+            }
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new IllegalArgumentException("Item " + index + ": expected a JSON object");
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void validate(Object item, int index) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(item);
+        if (!violations.isEmpty()) {
+            String details = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            throw new IllegalArgumentException("Item " + index + ": " + details);
+        }
+    }
+
+    // One existence check per import, not per item
+    private void requireUser(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+    }
+
+    private BulkImportResultDTO inTransaction(Supplier<BulkImportResultDTO> work, Long userId) throws IOException {
+        try {
+            return writeTransaction.execute(status -> {
+                BulkImportResultDTO result = work.get();
+                if (result.getCreated() > 0) {
+                    eventPublisher.publishEvent(new PortfolioContentChangedEvent(userId)); // Delivered after commit
+                }
+                return result;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause(); // Reading the request body failed
+        }
+    }
+
+    private static String normalizeName(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+}
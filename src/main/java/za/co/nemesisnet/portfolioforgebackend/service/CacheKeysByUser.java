@@ -0,0 +1,38 @@
+package za.co.nemesisnet.portfolioforgebackend.service;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reverse index from a user ID to the keys under which a Caffeine cache holds entries for that user,
+ * so a change to one user evicts exactly those keys instead of scanning every entry.
+ * Callers add a key from inside the cache's loader and remove it from the cache's eviction listener
+ * (or an atomic asMap().computeIfPresent), so per cache key the index and the cache change together.
+ */
+final class CacheKeysByUser {
+
+    // Each set is only mutated inside compute() for its user, and no longer mutated once detached by removeAll()
+    private final ConcurrentHashMap<Long, Set<String>> keysByUserId = new ConcurrentHashMap<>();
+
+    void add(Long userId, String key) {
+        keysByUserId.compute(userId, (id, keys) -> {
+            Set<String> result = keys != null ? keys : new HashSet<>();
+            result.add(key);
+            return result;
+        });
+    }
+
+    void remove(Long userId, String key) {
+        keysByUserId.computeIfPresent(userId, (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    /** Detaches and returns every key recorded for the user (empty if none). */
+    Set<String> removeAll(Long userId) {
+        Set<String> keys = keysByUserId.remove(userId);
+        return keys != null ? keys : Set.of();
+    }
+}
@@ -0,0 +1,13 @@
+package za.co.nemesisnet.portfolioforgebackend.service;
+
+/**
+ * What the asynchronous contact message queue does when it is full.
+ */
+public enum ContactIngestionOverflowPolicy {
+    /** Reject the new submission immediately with 503 (default: the sender can retry). */
+    REJECT,
+    /** Discard the oldest queued submission to make room for the new one. */
+    DROP_OLDEST,
+    /** Wait up to the configured offer timeout for space, then reject. */
+    BLOCK
+}
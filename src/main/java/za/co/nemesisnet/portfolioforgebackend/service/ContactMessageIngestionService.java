@@ -0,0 +1,22 @@
+package za.co.nemesisnet.portfolioforgebackend.service;
+
+
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.ContactMessageRequestDTO;
+import za.co.nemesisnet.portfolioforgebackend.exception.ResourceNotFoundException;
+import za.co.nemesisnet.portfolioforgebackend.exception.ServiceOverloadedException;
+
+public interface ContactMessageIngestionService {
+
+    /**
+     * Accepts a public contact form submission.
+     * In asynchronous mode the message is placed on a bounded in-memory queue and written later in
+     * JDBC batches; otherwise it is saved synchronously through {@link ContactMessageService}.
+     *
+     * @param recipientSlugOrUsername The public slug or username of the recipient.
+     * @param messageDto              The validated message details.
+     * @return true if the message was queued for a later write, false if it has already been saved.
+     * @throws ResourceNotFoundException  if no user exists for the identifier.
+     * @throws ServiceOverloadedException if the queue is full and the overflow policy rejects the message.
+     */
+    boolean submit(String recipientSlugOrUsername, ContactMessageRequestDTO messageDto);
+}
@@ -0,0 +1,266 @@
+package za.co.nemesisnet.portfolioforgebackend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.ContactMessageRequestDTO;
+import za.co.nemesisnet.portfolioforgebackend.exception.ResourceNotFoundException;
+import za.co.nemesisnet.portfolioforgebackend.exception.ServiceOverloadedException;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class ContactMessageIngestionServiceImpl implements ContactMessageIngestionService, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ContactMessageIngestionServiceImpl.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO contact_messages (sender_name, sender_email, subject, message, submission_date, is_read, recipient_user_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final long POLL_TIMEOUT_MS = 200; // How often the idle writer re-checks whether it should stop
+
+    // A validated submission waiting to be written; the recipient is already resolved to an ID
+    private record PendingContactMessage(Long recipientUserId, String senderName, String senderEmail,
+                                         String subject, String message, LocalDateTime submissionDate) {}
+
+    private final ContactMessageService contactMessageService;
+    private final SlugResolverService slugResolverService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate batchTransaction;
+
+    private final boolean asyncEnabled;
+    private final int batchSize;
+    private final ContactIngestionOverflowPolicy overflowPolicy;
+    private final long offerTimeoutMs;
+    private final long shutdownTimeoutMs;
+    private final BlockingQueue<PendingContactMessage> queue;
+
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Timer batchWriteTimer;
+
+    private volatile boolean running = false;
+    private Thread writerThread;
+
+    public ContactMessageIngestionServiceImpl(ContactMessageService contactMessageService,
+                                              SlugResolverService slugResolverService,
+                                              JdbcTemplate jdbcTemplate,
+                                              PlatformTransactionManager transactionManager,
+                                              MeterRegistry meterRegistry,
+                                              @Value("${portfolioforge.contact-ingestion.async-enabled:false}") boolean asyncEnabled,
+                                              @Value("${portfolioforge.contact-ingestion.queue-capacity:10000}") int queueCapacity,
+                                              @Value("${portfolioforge.contact-ingestion.batch-size:100}") int batchSize,
+                                              @Value("${portfolioforge.contact-ingestion.overflow-policy:REJECT}") ContactIngestionOverflowPolicy overflowPolicy,
+                                              @Value("${portfolioforge.contact-ingestion.offer-timeout-ms:50}") long offerTimeoutMs,
+                                              @Value("${portfolioforge.contact-ingestion.shutdown-timeout-ms:10000}") long shutdownTimeoutMs) {
+        this.contactMessageService = contactMessageService;
+        this.slugResolverService = slugResolverService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.asyncEnabled = asyncEnabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.overflowPolicy = overflowPolicy;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+
+        Gauge.builder("portfolioforge.contact-ingestion.queue.size", queue, BlockingQueue::size)
+                .description("Contact messages accepted but not yet written")
+                .register(meterRegistry);
+        Gauge.builder("portfolioforge.contact-ingestion.queue.remaining-capacity", queue, BlockingQueue::remainingCapacity)
+                .register(meterRegistry);
+        this.acceptedCounter = messageCounter(meterRegistry, "accepted");
+        this.rejectedCounter = messageCounter(meterRegistry, "rejected");
+        this.droppedCounter = messageCounter(meterRegistry, "dropped");
+        this.writtenCounter = messageCounter(meterRegistry, "written");
+        this.failedCounter = messageCounter(meterRegistry, "failed");
+        this.batchWriteTimer = Timer.builder("portfolioforge.contact-ingestion.batch.write")
+                .description("Time to write one batch of contact messages")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean submit(String recipientSlugOrUsername, ContactMessageRequestDTO messageDto) {
+        if (!asyncEnabled) {
+            contactMessageService.saveMessage(recipientSlugOrUsername, messageDto);
+            return false;
+        }
+
+        // Resolved through the cache (negative results included), so unknown recipients still get a 404
+        // and spam against made-up slugs never reaches the queue or the database
+        Long recipientUserId = slugResolverService.resolveUserIdBySlugOrUsername(recipientSlugOrUsername)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Recipient portfolio/user not found for identifier: " + recipientSlugOrUsername));
+
+        PendingContactMessage pending = new PendingContactMessage(recipientUserId,
+                messageDto.getSenderName(), messageDto.getSenderEmail(), messageDto.getSubject(),
+                messageDto.getMessage(), LocalDateTime.now());
+
+        if (!enqueue(pending)) {
+            rejectedCounter.increment();
+            log.warn("Contact message queue full ({} pending); rejecting submission for user ID {}", queue.size(), recipientUserId);
+            throw new ServiceOverloadedException("Too many messages are being sent right now. Please try again shortly.", 5);
+        }
+        acceptedCounter.increment();
+        return true;
+    }
+
+    private boolean enqueue(PendingContactMessage pending) {
+        switch (overflowPolicy) {
+            case DROP_OLDEST -> {
+                while (!queue.offer(pending)) {
+                    if (queue.poll() != null) {
+                        droppedCounter.increment();
+                    }
+                }
+                return true;
+            }
+            case BLOCK -> {
+                try {
+                    return queue.offer(pending, offerTimeoutMs, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            default -> {
+                return queue.offer(pending);
+            }
+        }
+    }
+
+    // --- Background Writer ---
+
+    private void runWriter() {
+        List<PendingContactMessage> batch = new ArrayList<>(batchSize);
+        // Keep draining after stop() until the queue is empty, so accepted messages are not lost on shutdown
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingContactMessage first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                // Whatever piled up while the previous batch was being written goes into this one
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error in contact message writer: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+        if (!queue.isEmpty()) {
+            log.error("Contact message writer stopped with {} message(s) still queued", queue.size());
+        }
+    }
+
+    private void writeBatch(List<PendingContactMessage> batch) {
+        long start = System.nanoTime();
+        try {
+            // One transaction per batch: either every row is committed or none is, so the fallback below never duplicates
+            batchTransaction.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bindValues));
+            writtenCounter.increment(batch.size());
+            log.debug("Wrote batch of {} contact message(s)", batch.size());
+        } catch (DataAccessException e) {
+            // Typically a single bad row (e.g. the recipient was deleted meanwhile); isolate it
+            log.warn("Batch insert of {} contact message(s) failed, retrying one by one: {}", batch.size(), e.getMessage());
+            for (PendingContactMessage pending : batch) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, ps -> bindValues(ps, pending));
+                    writtenCounter.increment();
+                } catch (DataAccessException rowError) {
+                    failedCounter.increment();
+                    log.error("Dropping contact message for user ID {}: {}", pending.recipientUserId(), rowError.getMessage());
+                }
+            }
+        } finally {
+            batchWriteTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void bindValues(PreparedStatement ps, PendingContactMessage pending) throws SQLException {
+        ps.setString(1, pending.senderName());
+        ps.setString(2, pending.senderEmail());
+        ps.setString(3, pending.subject());
+        ps.setString(4, pending.message());
+        ps.setTimestamp(5, Timestamp.valueOf(pending.submissionDate()));
+        ps.setBoolean(6, false);
+        ps.setLong(7, pending.recipientUserId());
+    }
+
+    // --- Lifecycle ---
+
+    @Override
+    public synchronized void start() {
+        if (!asyncEnabled || running) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::runWriter, "contact-ingestion-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Asynchronous contact message ingestion started (capacity {}, batch size {}, overflow policy {})",
+                queue.remainingCapacity(), batchSize, overflowPolicy);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false; // The writer finishes the queue, then exits
+        try {
+            writerThread.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            log.warn("Contact message writer did not finish within {} ms; {} message(s) may be lost", shutdownTimeoutMs, queue.size());
+            writerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Lower than the web server's phases: stops only after the server has stopped accepting submissions
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private static Counter messageCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("portfolioforge.contact-ingestion.messages")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
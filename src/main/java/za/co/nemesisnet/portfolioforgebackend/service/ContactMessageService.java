@@ -1,6 +1,8 @@
 package za.co.nemesisnet.portfolioforgebackend.service; // Use your service package
 
 
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.BulkReadStatusUpdateRequestDTO;
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.ContactMessagePageDTO;
 import za.co.nemesisnet.portfolioforgebackend.domain.dto.ContactMessageRequestDTO;
 import za.co.nemesisnet.portfolioforgebackend.domain.dto.ContactMessageResponseDTO;
 import za.co.nemesisnet.portfolioforgebackend.exception.ResourceNotFoundException; // Correct exception import
@@ -30,6 +32,26 @@ public interface ContactMessageService {
      */
     List<ContactMessageResponseDTO> getMessagesForUser(Long recipientUserId);
 
+    /**
+     * Retrieves one page of message summaries (without the message body) for a user, newest first.
+     * Uses keyset pagination, so every page costs the same regardless of how deep it is.
+     *
+     * @param recipientUserId The ID of the user whose messages are being requested.
+     * @param cursor          The nextCursor of the previous page, or null for the first page.
+     * @param limit           The requested page size (clamped to a sane range).
+     * @return The page of summaries and the cursor for the next page (null on the last page).
+     * @throws IllegalArgumentException if the cursor is malformed.
+     */
+    ContactMessagePageDTO getMessageSummariesForUser(Long recipientUserId, String cursor, int limit);
+
+    /**
+     * Counts the unread messages received by a user.
+     *
+     * @param recipientUserId The ID of the user.
+     * @return The number of unread messages.
+     */
+    long countUnreadMessagesForUser(Long recipientUserId);
+
     /**
      * Retrieves a specific message by its ID, ensuring it belongs to the specified recipient user.
      *
@@ -49,6 +71,16 @@ public interface ContactMessageService {
      */
     Optional<ContactMessageResponseDTO> updateMessageReadStatus(Long messageId, Long recipientUserId, boolean isRead);
 
+    /**
+     * Sets the read status of many messages at once, selected either by ID or by submission date.
+     * Runs as one set-based UPDATE; messages not owned by the user are never touched.
+     *
+     * @param recipientUserId The ID of the user who owns the messages.
+     * @param request         The desired read status and the message filter.
+     * @return The number of messages whose read status changed.
+     */
+    int updateReadStatusInBulk(Long recipientUserId, BulkReadStatusUpdateRequestDTO request);
+
     // Optional delete method signature if needed later
     // void deleteMessage(Long messageId, Long recipientUserId);
 }
\ No newline at end of file
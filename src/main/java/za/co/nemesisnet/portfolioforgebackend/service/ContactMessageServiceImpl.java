@@ -3,20 +3,27 @@ package za.co.nemesisnet.portfolioforgebackend.service; // Use your service pack
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 // Correct import paths assumed based on previous files
 
 import za.co.nemesisnet.portfolioforgebackend.domain.ContactMessage;
-import za.co.nemesisnet.portfolioforgebackend.domain.Portfolio;
 import za.co.nemesisnet.portfolioforgebackend.domain.User;
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.BulkReadStatusUpdateRequestDTO;
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.ContactMessagePageDTO;
 import za.co.nemesisnet.portfolioforgebackend.domain.dto.ContactMessageRequestDTO;
 import za.co.nemesisnet.portfolioforgebackend.domain.dto.ContactMessageResponseDTO;
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.ContactMessageSummaryDTO;
+import za.co.nemesisnet.portfolioforgebackend.exception.InvalidRequestException;
 import za.co.nemesisnet.portfolioforgebackend.exception.ResourceNotFoundException;
 import za.co.nemesisnet.portfolioforgebackend.repository.ContactMessageRepository;
-import za.co.nemesisnet.portfolioforgebackend.repository.PortfolioRepository;
 import za.co.nemesisnet.portfolioforgebackend.repository.UserRepository; // Import UserRepository
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -26,10 +33,12 @@ import java.util.stream.Collectors;
 public class ContactMessageServiceImpl implements ContactMessageService { // Ensure it implements the correct interface
 
     private final ContactMessageRepository contactMessageRepository;
-    private final PortfolioRepository portfolioRepository; // Need this to find user by slug
-    private final UserRepository userRepository; // Added dependency for fallback lookup
+    private final UserRepository userRepository;
+    private final SlugResolverService slugResolverService; // Cached slug/username -> user ID lookup
     private static final Logger log = LoggerFactory.getLogger(ContactMessageServiceImpl.class);
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     /**
      * Saves a contact message sent to a user identified by slug (primary) or username (fallback).
      */
@@ -38,30 +47,15 @@ public class ContactMessageServiceImpl implements ContactMessageService { // Ens
     public ContactMessageResponseDTO saveMessage(String recipientSlugOrUsername, ContactMessageRequestDTO messageDto) {
         log.info("Attempting to save message for recipient identifier: {}", recipientSlugOrUsername);
 
-        // 1. Find the recipient User
-        Optional<Portfolio> portfolioOpt = portfolioRepository.findByPublicSlug(recipientSlugOrUsername);
-
-        User recipientUser;
-        if (portfolioOpt.isPresent()) {
-            // Ensure portfolio has a user associated
-            if (portfolioOpt.get().getUser() == null) {
-                log.error("Portfolio found for slug '{}', but associated user is null.", recipientSlugOrUsername);
-                // Throwing ResourceNotFound seems appropriate as the target entity setup is incomplete/invalid
-                throw new ResourceNotFoundException("Recipient user configuration error for identifier: " + recipientSlugOrUsername);
-            }
-            recipientUser = portfolioOpt.get().getUser();
-            log.info("Found recipient user ID {} via portfolio slug '{}'", recipientUser.getId(), recipientSlugOrUsername);
-        } else {
-            // Fallback: Try finding user directly by username
-            log.debug("Portfolio not found by slug '{}', attempting lookup by username.", recipientSlugOrUsername);
-            recipientUser = userRepository.findByUsername(recipientSlugOrUsername)
-                    .orElseThrow(() -> {
-                        log.warn("Recipient user not found by slug or username: {}", recipientSlugOrUsername);
-                        return new ResourceNotFoundException(
-                                "Recipient portfolio/user not found for identifier: " + recipientSlugOrUsername);
-                    });
-            log.info("Found recipient user ID {} via username '{}'", recipientUser.getId(), recipientSlugOrUsername);
-        }
+        // 1. Resolve the recipient user ID (slug first, username fallback; cached)
+        Long recipientUserId = slugResolverService.resolveUserIdBySlugOrUsername(recipientSlugOrUsername)
+                .orElseThrow(() -> {
+                    log.warn("Recipient user not found by slug or username: {}", recipientSlugOrUsername);
+                    return new ResourceNotFoundException(
+                            "Recipient portfolio/user not found for identifier: " + recipientSlugOrUsername);
+                });
+        // Only the foreign key is needed, so use a reference instead of loading the User row
+        User recipientUser = userRepository.getReferenceById(recipientUserId);
 
         // 2. Create and populate the ContactMessage entity
         ContactMessage message = new ContactMessage();
@@ -74,7 +68,7 @@ public class ContactMessageServiceImpl implements ContactMessageService { // Ens
 
         // 3. Save the message
         ContactMessage savedMessage = contactMessageRepository.save(message);
-        log.info("Successfully saved contact message ID {} for recipient user ID {}", savedMessage.getId(), recipientUser.getId());
+        log.info("Successfully saved contact message ID {} for recipient user ID {}", savedMessage.getId(), recipientUserId);
 
         // 4. Convert to DTO for response
         return convertToDto(savedMessage);
@@ -93,6 +87,44 @@ public class ContactMessageServiceImpl implements ContactMessageService { // Ens
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Retrieves one keyset-paginated page of message summaries for a specific user.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ContactMessagePageDTO getMessageSummariesForUser(Long recipientUserId, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        log.debug("Fetching message summaries for user ID: {} (cursor: {}, limit: {})", recipientUserId, cursor, pageSize);
+
+        // Fetch one extra row to know whether another page exists without a COUNT query
+        Limit fetchLimit = Limit.of(pageSize + 1);
+        List<ContactMessageSummaryDTO> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = contactMessageRepository.findSummariesByRecipientId(recipientUserId, fetchLimit);
+        } else {
+            Cursor position = decodeCursor(cursor);
+            rows = contactMessageRepository.findSummariesByRecipientIdBefore(
+                    recipientUserId, position.submissionDate(), position.id(), fetchLimit);
+        }
+
+        if (rows.size() <= pageSize) {
+            return new ContactMessagePageDTO(rows, null);
+        }
+        List<ContactMessageSummaryDTO> page = rows.subList(0, pageSize);
+        ContactMessageSummaryDTO last = page.get(pageSize - 1);
+        return new ContactMessagePageDTO(List.copyOf(page), encodeCursor(last.getSubmissionDate(), last.getId()));
+    }
+
+    /**
+     * Counts unread messages for a specific user.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long countUnreadMessagesForUser(Long recipientUserId) {
+        log.debug("Counting unread messages for user ID: {}", recipientUserId);
+        return contactMessageRepository.countUnreadByRecipientId(recipientUserId);
+    }
+
     /**
      * Retrieves a specific message by ID for a specific user.
      */
@@ -132,6 +164,46 @@ public class ContactMessageServiceImpl implements ContactMessageService { // Ens
         }
     }
 
+    /**
+     * Updates the read status of many messages for a specific user with a single UPDATE statement.
+     */
+    @Override
+    @Transactional
+    public int updateReadStatusInBulk(Long recipientUserId, BulkReadStatusUpdateRequestDTO request) {
+        boolean isRead = request.getIsRead();
+        int updated;
+        if (request.getMessageIds() != null && !request.getMessageIds().isEmpty()) {
+            updated = contactMessageRepository.updateReadStatusByIds(recipientUserId, request.getMessageIds(), isRead);
+        } else {
+            updated = contactMessageRepository.updateReadStatusSubmittedOnOrBefore(
+                    recipientUserId, request.getSubmittedOnOrBefore(), isRead);
+        }
+        log.info("Bulk-updated read status to {} for {} message(s) of user ID {}", isRead, updated, recipientUserId);
+        return updated;
+    }
+
+    // --- Cursor Encoding ---
+    // Opaque to clients: base64url of "<submissionDate ISO-8601>|<id>" of the last message on the page
+    private record Cursor(LocalDateTime submissionDate, Long id) {}
+
+    private static String encodeCursor(LocalDateTime submissionDate, Long id) {
+        String raw = submissionDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            if (separator < 0) {
+                throw new InvalidRequestException("Invalid cursor: " + cursor);
+            }
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), Long.valueOf(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) { // NumberFormatException is an IllegalArgumentException
+            throw new InvalidRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
     // --- Helper DTO Conversion ---
     /**
      * Converts a ContactMessage entity to a ContactMessageResponseDTO.
@@ -1,64 +1,119 @@
 package za.co.nemesisnet.portfolioforgebackend.service; // Use your package
 
 // Ensure your User entity is imported correctly (adjust if package name differs)
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import za.co.nemesisnet.portfolioforgebackend.domain.User;
+import za.co.nemesisnet.portfolioforgebackend.event.UserChangedEvent;
 import za.co.nemesisnet.portfolioforgebackend.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
-// No longer need GrantedAuthority or SimpleGrantedAuthority here if UserDetailsImpl handles it
-// import org.springframework.security.core.GrantedAuthority;
-// import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-// Import the custom UserDetails implementation
-//import za.co.nemesisnet.portfolioforgebackend.security.UserDetailsImpl; // <<< IMPORT THIS
+import org.springframework.transaction.event.TransactionalEventListener;
 
-// No longer need these if UserDetailsImpl handles authority mapping
-// import java.util.Collection;
-// import java.util.Collections;
+import java.time.Duration;
+import java.util.Set;
 
 @Service // Mark this as a Spring service bean
-@RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomUserDetailsService.class);
 
     private final UserRepository userRepository;
 
+    // login identifier (username or email) -> immutable principal
+    private final Cache<String, UserDetailsImpl> userDetailsCache;
+    // Which login identifiers are cached for each user, so a user change evicts them without a scan
+    private final CacheKeysByUser cachedIdentifiers = new CacheKeysByUser();
+    private final Counter changeEvictions;
+
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${portfolioforge.security.user-details-cache.max-entries:10000}") long maxEntries,
+                                    @Value("${portfolioforge.security.user-details-cache.ttl-ms:300000}") long ttlMs) {
+        this.userRepository = userRepository;
+        this.userDetailsCache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats() // hit/miss/eviction counts, exported below as cache.* metrics
+                .evictionListener((String identifier, UserDetailsImpl details, RemovalCause cause) ->
+                        cachedIdentifiers.remove(details.getId(), identifier))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userDetailsCache, "userDetails");
+        this.changeEvictions = Counter.builder("portfolioforge.user-details.change-evictions")
+                .description("Cached principals dropped because the underlying user changed")
+                .register(meterRegistry);
+    }
+
     /**
-     * Loads user-specific data. Spring Security calls this method during authentication.
+     * Loads user-specific data. Spring Security calls this method during authentication
+     * and the JWT filter calls it on every authenticated request, so results are cached.
      * @param username The username identifying the user whose data is required.
      * @return a UserDetails object containing the user's information
      * @throws UsernameNotFoundException if the user could not be found or the user has no GrantedAuthority
      */
     @Override
-    @Transactional(readOnly = true) // Good practice for read-only operations
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        // Misses are not cached: the exception propagates out of the loader unchanged
+        return userDetailsCache.get(username, identifier -> {
+            UserDetailsImpl details = loadFromDatabase(identifier);
+            cachedIdentifiers.add(details.getId(), identifier);
+            return details;
+        });
+    }
+
+    /**
+     * Called by Spring Security after a successful login when the stored hash doesn't match the
+     * configured encoding (legacy format or a different BCrypt cost). Saves the rehashed password;
+     * the entity update publishes UserChangedEvent, which evicts the cached principal after commit.
+     * @param user The authenticated principal.
+     * @param newPassword The password re-encoded with the current target algorithm and cost.
+     * @return The principal carrying the new hash.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Long userId = ((UserDetailsImpl) user).getId();
+        User entity = userRepository.findById(userId)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + userId));
+        entity.setPassword(newPassword);
+        log.info("Upgraded password hash for user ID {}", userId);
+        return new UserDetailsImpl(userRepository.save(entity));
+    }
+
+    /**
+     * Drops every cached principal of a user once a change to that user has committed
+     * (password, role, username, token version). Entries may be keyed by username or email
+     * (possibly a previous one), so the keys are looked up by user ID in the reverse index.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        Set<String> identifiers = cachedIdentifiers.removeAll(event.userId());
+        userDetailsCache.invalidateAll(identifiers);
+        if (!identifiers.isEmpty()) {
+            changeEvictions.increment();
+            log.debug("Evicted cached UserDetails for user ID {}", event.userId());
+        }
+    }
+
+    private UserDetailsImpl loadFromDatabase(String username) {
         // Try finding user by username OR email (allows login with either)
         User user = userRepository.findByUsername(username)
                 .orElseGet(() -> userRepository.findByEmail(username)
                         .orElseThrow(() ->
                                 new UsernameNotFoundException("User not found with username or email: " + username)));
 
-        // --- CORRECTED RETURN STATEMENT ---
-        // Return our custom UserDetailsImpl, passing the found User entity to its constructor.
-        // UserDetailsImpl will handle getting username, password, authorities, etc., from the User entity.
-        return new UserDetailsImpl(user); // <<< THIS IS THE CORRECT LINE
-
-        // --- REMOVED INCORRECT RETURN ---
-        /*
-        // Convert our User entity's role(s) into Spring Security GrantedAuthority objects
-        // For our simple String role:
-        Collection<? extends GrantedAuthority> authorities =
-                Collections.singletonList(new SimpleGrantedAuthority(user.getRole()));
-
-        // Return Spring Security's User object (or a custom UserDetails implementation)
-        // This User object comes from org.springframework.security.core.userdetails.User
-        return new org.springframework.security.core.userdetails.User(
-                user.getUsername(),       // Username used by Spring Security
-                user.getPassword(),       // Hashed password
-                authorities               // User roles/permissions
-        );
-        */
+        // Copy only what security needs into the slim principal; the entity itself is never cached
+        return new UserDetailsImpl(user);
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package za.co.nemesisnet.portfolioforgebackend.service; // Use your package
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 // Ensure correct entity/DTO paths if they differ
@@ -8,10 +9,13 @@ import org.springframework.transaction.annotation.Transactional;
 import za.co.nemesisnet.portfolioforgebackend.domain.Portfolio;
 import za.co.nemesisnet.portfolioforgebackend.domain.User;
 import za.co.nemesisnet.portfolioforgebackend.domain.dto.PortfolioDTO;
+import za.co.nemesisnet.portfolioforgebackend.event.PortfolioContentChangedEvent;
+import za.co.nemesisnet.portfolioforgebackend.event.PublicSlugChangedEvent;
 import za.co.nemesisnet.portfolioforgebackend.exception.ResourceNotFoundException; // Import custom exception
 import za.co.nemesisnet.portfolioforgebackend.repository.PortfolioRepository;
 import za.co.nemesisnet.portfolioforgebackend.repository.UserRepository;
 
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -20,6 +24,8 @@ public class PortfolioServiceImpl implements PortfolioService {
 
     private final PortfolioRepository portfolioRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SlugResolverService slugResolverService;
 
     /**
      * Retrieves the portfolio data for a specific user.
@@ -74,10 +80,16 @@ public class PortfolioServiceImpl implements PortfolioService {
                 });
 
         // 4. Update the Portfolio entity fields from the incoming DTO data
+        String previousSlug = portfolio.getPublicSlug();
         updateEntityFromDTO(portfolio, portfolioDTO);
 
         // 5. Save the entity (Hibernate handles insert vs update automatically)
         Portfolio savedPortfolio = portfolioRepository.save(portfolio);
+        eventPublisher.publishEvent(new PortfolioContentChangedEvent(userId)); // Public snapshot is now stale
+        if (!Objects.equals(previousSlug, savedPortfolio.getPublicSlug())) {
+            // Cached slug -> user resolutions for the old and new slug are now stale
+            eventPublisher.publishEvent(new PublicSlugChangedEvent(userId, previousSlug, savedPortfolio.getPublicSlug()));
+        }
 
         // 6. Convert the saved/updated entity back to DTO for the response
         return convertToDTO(savedPortfolio);
@@ -91,7 +103,7 @@ public class PortfolioServiceImpl implements PortfolioService {
      * Converts a Portfolio entity to a PortfolioDTO.
      * Excludes sensitive or unnecessary data like the User object itself.
      */
-    private PortfolioDTO convertToDTO(Portfolio portfolio) {
+    PortfolioDTO convertToDTO(Portfolio portfolio) {
         PortfolioDTO dto = new PortfolioDTO();
         dto.setAboutMeText(portfolio.getAboutMeText());
         dto.setResumeUrl(portfolio.getResumeUrl());
@@ -120,13 +132,11 @@ public class PortfolioServiceImpl implements PortfolioService {
     // No deletePortfolio method needed here due to cascading from User entity.
     /**
      * Finds the User ID associated with a given public portfolio slug.
+     * Delegates to the cached resolver, so repeat lookups (including unknown slugs) don't hit the database.
      */
     @Override
-    @Transactional(readOnly = true) // Read-only operation
     public Optional<Long> findUserIdBySlug(String publicSlug) {
-        return portfolioRepository.findByPublicSlug(publicSlug) // Find portfolio by slug
-                .map(Portfolio::getUser) // Map Optional<Portfolio> to Optional<User>
-                .map(User::getId); // Map Optional<User> to Optional<Long> (user ID)
+        return slugResolverService.resolveUserIdBySlug(publicSlug);
     }
 
 
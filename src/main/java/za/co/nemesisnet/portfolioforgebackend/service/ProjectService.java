@@ -50,4 +50,14 @@ public interface ProjectService {
      * @throws RuntimeException (or specific exception) if the project is not found or not owned by the user.
      */
     void deleteProject(Long projectId, Long userId);
-}
\ No newline at end of file
+
+    /**
+     * Reorder all of a user's projects in one transaction. Each project's displayOrder becomes its index
+     * in the list; only projects whose position actually changes are updated.
+     * @param userId The ID of the user owning the projects.
+     * @param orderedProjectIds All of the user's project IDs, each exactly once, in the new display order.
+     * @return The number of projects whose display order changed.
+     * @throws IllegalArgumentException if the list is not exactly the user's set of project IDs.
+     */
+    int reorderProjects(Long userId, List<Long> orderedProjectIds);
+}
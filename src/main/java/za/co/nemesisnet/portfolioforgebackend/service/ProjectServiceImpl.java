@@ -1,18 +1,24 @@
 package za.co.nemesisnet.portfolioforgebackend.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import za.co.nemesisnet.portfolioforgebackend.domain.Project;
 import za.co.nemesisnet.portfolioforgebackend.domain.User;
 import za.co.nemesisnet.portfolioforgebackend.domain.dto.ProjectDTO;
+import za.co.nemesisnet.portfolioforgebackend.event.PortfolioContentChangedEvent;
 // Create this custom exception later
+import za.co.nemesisnet.portfolioforgebackend.exception.InvalidRequestException;
 import za.co.nemesisnet.portfolioforgebackend.exception.ResourceNotFoundException;
 import za.co.nemesisnet.portfolioforgebackend.repository.ProjectRepository;
 import za.co.nemesisnet.portfolioforgebackend.repository.UserRepository;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,6 +27,7 @@ public class ProjectServiceImpl implements ProjectService {
 
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -51,6 +58,7 @@ public class ProjectServiceImpl implements ProjectService {
         updateEntityFromDto(project, projectDTO); // Map fields from DTO
 
         Project savedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(new PortfolioContentChangedEvent(userId));
         return convertToDto(savedProject);
     }
 
@@ -64,6 +72,7 @@ public class ProjectServiceImpl implements ProjectService {
             Project projectToUpdate = existingProjectOpt.get();
             updateEntityFromDto(projectToUpdate, projectDTO); // Update fields
             Project updatedProject = projectRepository.save(projectToUpdate); // Save changes
+            eventPublisher.publishEvent(new PortfolioContentChangedEvent(userId));
             return Optional.of(convertToDto(updatedProject)); // Return updated DTO
         } else {
             return Optional.empty(); // Project not found or not owned by user
@@ -79,12 +88,40 @@ public class ProjectServiceImpl implements ProjectService {
                         "Project not found with id " + projectId + " for user " + userId)); // More specific exception
 
         projectRepository.delete(project);
+        eventPublisher.publishEvent(new PortfolioContentChangedEvent(userId));
+    }
+
+    @Override
+    @Transactional
+    public int reorderProjects(Long userId, List<Long> orderedProjectIds) {
+        // Served from the second-level cache when warm; the entities are managed, so changes are tracked
+        Map<Long, Project> projectsById = projectRepository.findByUserIdOrderByDisplayOrderAscCreatedAtDesc(userId).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+        if (orderedProjectIds.size() != projectsById.size() || new HashSet<>(orderedProjectIds).size() != orderedProjectIds.size()) {
+            throw new InvalidRequestException("The new order must list each of your " + projectsById.size() + " projects exactly once");
+        }
+
+        int changed = 0;
+        for (int position = 0; position < orderedProjectIds.size(); position++) {
+            Project project = projectsById.get(orderedProjectIds.get(position));
+            if (project == null) {
+                throw new ResourceNotFoundException("Project", "id", orderedProjectIds.get(position)); // Not one of the caller's
+            }
+            if (project.getDisplayOrder() != position) {
+                project.setDisplayOrder(position); // Dirty checking: UPDATE issued at flush, batched with the others
+                changed++;
+            }
+        }
+        if (changed > 0) {
+            eventPublisher.publishEvent(new PortfolioContentChangedEvent(userId));
+        }
+        return changed;
     }
 
     // --- Helper Mapping Methods ---
-    private ProjectDTO convertToDto(Project project) {
+    ProjectDTO convertToDto(Project project) {
         ProjectDTO dto = new ProjectDTO();
-        // dto.setId(project.getId()); // Optionally include ID in response DTO
+        dto.setId(project.getId());
         dto.setTitle(project.getTitle());
         dto.setDescription(project.getDescription());
         dto.setTechnologies(project.getTechnologies());
@@ -0,0 +1,24 @@
+package za.co.nemesisnet.portfolioforgebackend.service;
+
+
+import java.util.Optional;
+
+public interface PublicPortfolioService {
+
+    /**
+     * Retrieves the public snapshot (portfolio, projects, skills and full document as encoded response bodies) for a slug.
+     * Served from memory; the snapshot is rebuilt after the owner changes any of that content.
+     *
+     * @param publicSlug The unique public identifier for the portfolio.
+     * @return An Optional containing the snapshot if a portfolio with the slug exists.
+     */
+    Optional<PublicPortfolioSnapshot> getSnapshot(String publicSlug);
+
+    /**
+     * Returns the snapshot for a slug only if it is already built; never queries the database or blocks.
+     *
+     * @param publicSlug The unique public identifier for the portfolio.
+     * @return An Optional containing the cached snapshot, empty if it isn't cached (or the slug is unknown).
+     */
+    Optional<PublicPortfolioSnapshot> getCachedSnapshot(String publicSlug);
+}
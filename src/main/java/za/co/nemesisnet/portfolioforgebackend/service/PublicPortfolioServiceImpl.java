@@ -0,0 +1,204 @@
+package za.co.nemesisnet.portfolioforgebackend.service;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.PublicPortfolioDTO;
+import za.co.nemesisnet.portfolioforgebackend.event.PortfolioContentChangedEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+public class PublicPortfolioServiceImpl implements PublicPortfolioService {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicPortfolioServiceImpl.class);
+
+    private final PortfolioService portfolioService;
+    private final SlugResolverService slugResolverService;
+    private final ProjectService projectService;
+    private final SkillService skillService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper; // Same mapper as the HTTP layer, so cached bytes match what it would send
+    private final boolean precompressGzip;
+    private final Encoder.Parameters brotliParameters; // null if Brotli is disabled or unavailable
+    private final int compressMinBytes;
+
+    // owner user ID -> assembled public document. Keyed by user, not slug, so a write (which only knows
+    // the user) always evicts the one entry, whatever slug it was reached through; slugs resolve via SlugResolverService
+    private final AsyncCache<Long, PublicPortfolioSnapshot> snapshots;
+
+    public PublicPortfolioServiceImpl(PortfolioService portfolioService,
+                                      SlugResolverService slugResolverService,
+                                      ProjectService projectService,
+                                      SkillService skillService,
+                                      PlatformTransactionManager transactionManager,
+                                      ObjectMapper objectMapper,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${portfolioforge.public-snapshot.max-entries:10000}") long maxEntries,
+                                      @Value("${portfolioforge.public-snapshot.expire-after-write-ms:3600000}") long expireAfterWriteMs,
+                                      @Value("${portfolioforge.public-snapshot.precompress-gzip:true}") boolean precompressGzip,
+                                      @Value("${portfolioforge.public-snapshot.precompress-brotli:true}") boolean precompressBrotli,
+                                      @Value("${portfolioforge.public-snapshot.brotli-quality:9}") int brotliQuality,
+                                      @Value("${portfolioforge.public-snapshot.compress-min-bytes:1024}") int compressMinBytes) {
+        this.portfolioService = portfolioService;
+        this.slugResolverService = slugResolverService;
+        this.projectService = projectService;
+        this.skillService = skillService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.precompressGzip = precompressGzip;
+        this.brotliParameters = precompressBrotli && brotliAvailable()
+                ? new Encoder.Parameters().setQuality(brotliQuality).setMode(Encoder.Mode.TEXT)
+                : null;
+        this.compressMinBytes = compressMinBytes;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMillis(expireAfterWriteMs)) // Safety net only; writes evict explicitly
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "publicSnapshots");
+    }
+
+    /**
+     * Returns the cached snapshot for the slug, building it on first access.
+     * Concurrent requests for the same portfolio share a single build.
+     */
+    @Override
+    public Optional<PublicPortfolioSnapshot> getSnapshot(String publicSlug) {
+        return portfolioService.findUserIdBySlug(publicSlug).map(this::getSnapshotByUserId);
+    }
+
+    @Override
+    public Optional<PublicPortfolioSnapshot> getCachedSnapshot(String publicSlug) {
+        return slugResolverService.getCachedUserIdBySlug(publicSlug)
+                .map(snapshots::getIfPresent)
+                .filter(future -> future.isDone() && !future.isCompletedExceptionally())
+                .map(future -> future.getNow(null));
+    }
+
+    /**
+     * Evicts the owner's snapshot once the write that changed it has committed.
+     * The next public request rebuilds it from the database. A build still in flight is detached from
+     * the cache too: it completes for the callers already waiting on it but is never stored.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioContentChanged(PortfolioContentChangedEvent event) {
+        snapshots.synchronous().invalidate(event.userId());
+        log.debug("Evicted public portfolio snapshot for user ID {}", event.userId());
+    }
+
+    // The cache only stores a placeholder future under its lock; the caller that inserted it then runs the
+    // DB reads and the JSON/gzip/Brotli encoding outside any lock, and concurrent callers wait on the future.
+    // Inserting the placeholder before reading means a write committing from then on evicts it.
+    private PublicPortfolioSnapshot getSnapshotByUserId(Long userId) {
+        CompletableFuture<PublicPortfolioSnapshot> placeholder = new CompletableFuture<>();
+        CompletableFuture<PublicPortfolioSnapshot> snapshot = snapshots.get(userId, (id, executor) -> placeholder);
+        if (snapshot == placeholder) {
+            try {
+                placeholder.complete(buildSnapshot(userId)); // null (not cached) if the portfolio is gone
+            } catch (RuntimeException e) {
+                placeholder.completeExceptionally(e); // Failed builds are dropped from the cache
+                throw e;
+            }
+        }
+        try {
+            return snapshot.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private PublicPortfolioSnapshot buildSnapshot(Long userId) {
+        return readOnlyTransaction.execute(status -> portfolioService.getPortfolioByUserId(userId)
+                .map(portfolio -> {
+                    log.debug("Building public portfolio snapshot for user ID {}", userId);
+                    PublicPortfolioDTO document = new PublicPortfolioDTO(
+                            portfolio,
+                            List.copyOf(projectService.findAllByUserId(userId)),
+                            List.copyOf(skillService.findAllByUserId(userId)));
+                    return new PublicPortfolioSnapshot(userId,
+                            encode(document.getPortfolio()),
+                            encode(document.getProjects()),
+                            encode(document.getSkills()),
+                            encode(document));
+                })
+                .orElse(null));
+    }
+
+    /**
+     * Encodes a response body once: the JSON bytes, Brotli and gzip copies if enabled and the body is large
+     * enough, and a strong ETag for each (SHA-256 of the JSON, so it changes exactly when the body would).
+     * This runs once per snapshot build, i.e. once after each change, never per request.
+     */
+    private PublicPortfolioSnapshot.EncodedBody encode(Object value) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            String jsonEtag = etagOf(json);
+            boolean compress = json.length >= compressMinBytes;
+            byte[] gzip = compress && precompressGzip ? gzip(json) : null;
+            byte[] brotli = compress && brotliParameters != null ? Encoder.compress(json, brotliParameters) : null;
+            return new PublicPortfolioSnapshot.EncodedBody(json, jsonEtag,
+                    gzip, gzip != null ? variantEtag(jsonEtag, "gzip") : null,
+                    brotli, brotli != null ? variantEtag(jsonEtag, "br") : null);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode public portfolio snapshot", e);
+        }
+    }
+
+    // Same content, different representation: the variant's tag is the JSON tag with a suffix
+    private static String variantEtag(String jsonEtag, String coding) {
+        return jsonEtag.substring(0, jsonEtag.length() - 1) + "-" + coding + "\"";
+    }
+
+    private static String etagOf(byte[] json) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not compute ETag for public portfolio snapshot", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(data);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static boolean brotliAvailable() {
+        if (Brotli4jLoader.isAvailable()) {
+            return true;
+        }
+        log.warn("Brotli native library unavailable on this platform; public responses get no Brotli variant",
+                Brotli4jLoader.getUnavailabilityCause());
+        return false;
+    }
+}
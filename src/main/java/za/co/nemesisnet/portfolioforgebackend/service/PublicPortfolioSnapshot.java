@@ -0,0 +1,46 @@
+package za.co.nemesisnet.portfolioforgebackend.service;
+
+/**
+ * Immutable, precomputed public view of one portfolio, shared between requests.
+ * Each public resource is stored as its final response body: UTF-8 JSON bytes, optionally Brotli and gzip
+ * compressed copies, and a strong ETag per variant, all computed once when the snapshot is built. Serving a
+ * resource picks a variant by Accept-Encoding and copies its bytes to the response; nothing is compressed
+ * per request, and conditional GETs are answered without any work.
+ *
+ * @param userId    The ID of the portfolio owner.
+ * @param portfolio Encoded portfolio details.
+ * @param projects  Encoded project list.
+ * @param skills    Encoded skill list.
+ * @param document  Encoded full document (portfolio, projects and skills).
+ */
+public record PublicPortfolioSnapshot(Long userId,
+                                      EncodedBody portfolio,
+                                      EncodedBody projects,
+                                      EncodedBody skills,
+                                      EncodedBody document) {
+
+    /**
+     * One response body in its encoded forms. The arrays are shared and must never be modified.
+     * Compressed variants are null when disabled or when the body was too small to be worth compressing;
+     * each has its own ETag, since it is a different representation.
+     *
+     * @param json       UTF-8 JSON, as the HTTP layer's ObjectMapper would write it.
+     * @param jsonEtag   Strong ETag of {@code json}.
+     * @param gzip       {@code json} gzip-compressed, or null.
+     * @param gzipEtag   Strong ETag of the gzip variant, or null.
+     * @param brotli     {@code json} Brotli-compressed, or null.
+     * @param brotliEtag Strong ETag of the Brotli variant, or null.
+     */
+    public record EncodedBody(byte[] json, String jsonEtag,
+                              byte[] gzip, String gzipEtag,
+                              byte[] brotli, String brotliEtag) {
+
+        public boolean hasGzip() {
+            return gzip != null;
+        }
+
+        public boolean hasBrotli() {
+            return brotli != null;
+        }
+    }
+}
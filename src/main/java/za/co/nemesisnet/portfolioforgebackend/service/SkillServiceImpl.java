@@ -2,12 +2,14 @@ package za.co.nemesisnet.portfolioforgebackend.service;
 
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import za.co.nemesisnet.portfolioforgebackend.domain.Skill;
 import za.co.nemesisnet.portfolioforgebackend.domain.User;
 import za.co.nemesisnet.portfolioforgebackend.domain.dto.SkillDTO;
+import za.co.nemesisnet.portfolioforgebackend.event.PortfolioContentChangedEvent;
 import za.co.nemesisnet.portfolioforgebackend.exception.ResourceNotFoundException;
 import za.co.nemesisnet.portfolioforgebackend.repository.SkillRepository;
 import za.co.nemesisnet.portfolioforgebackend.repository.UserRepository;
@@ -22,6 +24,7 @@ public class SkillServiceImpl implements SkillService {
 
     private final SkillRepository skillRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -52,6 +55,7 @@ public class SkillServiceImpl implements SkillService {
         updateEntityFromDto(skill, skillDTO); // Use helper to map fields
 
         Skill savedSkill = skillRepository.save(skill);
+        eventPublisher.publishEvent(new PortfolioContentChangedEvent(userId));
         return convertToDto(savedSkill);
     }
 
@@ -75,6 +79,7 @@ public class SkillServiceImpl implements SkillService {
 
         updateEntityFromDto(skillToUpdate, skillDTO); // Update fields
         Skill updatedSkill = skillRepository.save(skillToUpdate);
+        eventPublisher.publishEvent(new PortfolioContentChangedEvent(userId));
         return Optional.of(convertToDto(updatedSkill));
     }
 
@@ -86,10 +91,11 @@ public class SkillServiceImpl implements SkillService {
             throw new ResourceNotFoundException("Skill not found with id " + skillId + " for user " + userId);
         }
         skillRepository.deleteById(skillId); // Simple delete by ID after check
+        eventPublisher.publishEvent(new PortfolioContentChangedEvent(userId));
     }
 
     // --- Helper Mapping Methods ---
-    private SkillDTO convertToDto(Skill skill) {
+    SkillDTO convertToDto(Skill skill) {
         SkillDTO dto = new SkillDTO();
         // dto.setId(skill.getId()); // Optional
         dto.setName(skill.getName());
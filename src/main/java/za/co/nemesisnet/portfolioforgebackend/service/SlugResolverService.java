@@ -0,0 +1,34 @@
+package za.co.nemesisnet.portfolioforgebackend.service;
+
+
+import java.util.Optional;
+
+public interface SlugResolverService {
+
+    /**
+     * Resolves a public portfolio slug to the owning user's ID.
+     * Results, including "not found", are cached and invalidated when a slug changes.
+     *
+     * @param publicSlug The unique public identifier for the portfolio.
+     * @return An Optional containing the user ID if a portfolio with the slug exists.
+     */
+    Optional<Long> resolveUserIdBySlug(String publicSlug);
+
+    /**
+     * Returns the user ID for a slug only if a resolution is already cached; never queries the database.
+     *
+     * @param publicSlug The unique public identifier for the portfolio.
+     * @return An Optional containing the user ID, empty if the slug is unknown or not cached.
+     */
+    Optional<Long> getCachedUserIdBySlug(String publicSlug);
+
+    /**
+     * Resolves a recipient identifier to a user ID, trying the portfolio slug first
+     * and falling back to the username. Results are cached and invalidated when a slug changes,
+     * a user registers or a username changes.
+     *
+     * @param slugOrUsername The public slug or username.
+     * @return An Optional containing the user ID if either lookup matches.
+     */
+    Optional<Long> resolveUserIdBySlugOrUsername(String slugOrUsername);
+}
@@ -0,0 +1,136 @@
+package za.co.nemesisnet.portfolioforgebackend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import za.co.nemesisnet.portfolioforgebackend.event.PublicSlugChangedEvent;
+import za.co.nemesisnet.portfolioforgebackend.event.UserChangedEvent;
+import za.co.nemesisnet.portfolioforgebackend.repository.PortfolioRepository;
+import za.co.nemesisnet.portfolioforgebackend.repository.UserRepository;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class SlugResolverServiceImpl implements SlugResolverService {
+
+    private static final Logger log = LoggerFactory.getLogger(SlugResolverServiceImpl.class);
+
+    private final PortfolioRepository portfolioRepository;
+    private final UserRepository userRepository;
+
+    // Values are Optional so unknown identifiers (e.g. crawler scans) are cached too
+    private final Cache<String, Optional<Long>> userIdBySlug;
+    private final Cache<String, Optional<Long>> userIdBySlugOrUsername;
+    // Which userIdBySlugOrUsername keys resolve to each user, so a user change evicts them without a scan
+    private final CacheKeysByUser slugOrUsernameKeys = new CacheKeysByUser();
+
+    public SlugResolverServiceImpl(PortfolioRepository portfolioRepository,
+                                   UserRepository userRepository,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${portfolioforge.slug-resolver.max-entries:50000}") long maxEntries,
+                                   @Value("${portfolioforge.slug-resolver.positive-ttl-ms:600000}") long positiveTtlMs,
+                                   @Value("${portfolioforge.slug-resolver.negative-ttl-ms:60000}") long negativeTtlMs) {
+        this.portfolioRepository = portfolioRepository;
+        this.userRepository = userRepository;
+        this.userIdBySlug = newCache(maxEntries, positiveTtlMs, negativeTtlMs).build();
+        this.userIdBySlugOrUsername = newCache(maxEntries, positiveTtlMs, negativeTtlMs)
+                .evictionListener((identifier, userId, cause) ->
+                        userId.ifPresent(id -> slugOrUsernameKeys.remove(id, identifier)))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userIdBySlug, "slugResolution");
+        CaffeineCacheMetrics.monitor(meterRegistry, userIdBySlugOrUsername, "slugOrUsernameResolution");
+    }
+
+    @Override
+    public Optional<Long> resolveUserIdBySlug(String publicSlug) {
+        return userIdBySlug.get(publicSlug, portfolioRepository::findUserIdByPublicSlug);
+    }
+
+    @Override
+    public Optional<Long> getCachedUserIdBySlug(String publicSlug) {
+        Optional<Long> cached = userIdBySlug.getIfPresent(publicSlug);
+        return cached != null ? cached : Optional.empty();
+    }
+
+    @Override
+    public Optional<Long> resolveUserIdBySlugOrUsername(String slugOrUsername) {
+        return userIdBySlugOrUsername.get(slugOrUsername, identifier -> {
+            Optional<Long> userId = resolveUserIdBySlug(identifier)
+                    .or(() -> userRepository.findIdByUsername(identifier)); // Fallback: username
+            userId.ifPresent(id -> slugOrUsernameKeys.add(id, identifier));
+            return userId;
+        });
+    }
+
+    /**
+     * Drops cached resolutions for both the old and the new slug once the change has committed.
+     * The new slug matters as well: it may be cached as "not found" from an earlier request.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPublicSlugChanged(PublicSlugChangedEvent event) {
+        evict(event.previousSlug());
+        evict(event.newSlug());
+        log.debug("Evicted slug resolutions for user ID {} ('{}' -> '{}')",
+                event.userId(), event.previousSlug(), event.newSlug());
+    }
+
+    /**
+     * Keeps the username fallback in step with the users table once a change has committed: entries that
+     * resolved to this user (e.g. a previous username) are dropped via the reverse index, and so is the
+     * current username, which may be cached as "not found" from before the user registered or was renamed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.username() == null) {
+            return; // Only TokenRevocationServiceImpl publishes without a username: the token version changed, not the name
+        }
+        userIdBySlugOrUsername.invalidateAll(slugOrUsernameKeys.removeAll(event.userId()));
+        userIdBySlugOrUsername.invalidate(event.username());
+        log.debug("Evicted username resolutions for user ID {} ('{}')", event.userId(), event.username());
+    }
+
+    private void evict(String identifier) {
+        if (identifier != null) {
+            userIdBySlug.invalidate(identifier);
+            // Unindexed under the entry's lock, so a concurrent reload of the same identifier stays indexed
+            userIdBySlugOrUsername.asMap().computeIfPresent(identifier, (key, userId) -> {
+                userId.ifPresent(id -> slugOrUsernameKeys.remove(id, key));
+                return null;
+            });
+        }
+    }
+
+    private static Caffeine<String, Optional<Long>> newCache(long maxEntries, long positiveTtlMs, long negativeTtlMs) {
+        long positiveTtlNanos = TimeUnit.MILLISECONDS.toNanos(positiveTtlMs);
+        long negativeTtlNanos = TimeUnit.MILLISECONDS.toNanos(negativeTtlMs);
+        return Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .recordStats()
+                .expireAfter(new Expiry<String, Optional<Long>>() {
+                    @Override
+                    public long expireAfterCreate(String key, Optional<Long> value, long currentTime) {
+                        // Misses expire sooner so a newly registered username/slug is picked up quickly
+                        return value.isPresent() ? positiveTtlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Optional<Long> value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Optional<Long> value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                });
+    }
+}
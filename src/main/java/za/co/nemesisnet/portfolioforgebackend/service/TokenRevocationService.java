@@ -0,0 +1,23 @@
+package za.co.nemesisnet.portfolioforgebackend.service;
+
+
+public interface TokenRevocationService {
+
+    /**
+     * Checks whether a token issued with the given version is still valid for the user.
+     * Used instead of loading the full user on every authenticated request.
+     *
+     * @param userId       The ID of the user the token was issued to.
+     * @param tokenVersion The version embedded in the token.
+     * @return true if the user exists and the version matches their current token version.
+     */
+    boolean isTokenVersionCurrent(Long userId, int tokenVersion);
+
+    /**
+     * Revokes every token previously issued to the user by incrementing their token version.
+     * Called by POST /api/v1/auth/logout-all; call it too from any future password or role change.
+     *
+     * @param userId The ID of the user.
+     */
+    void revokeAllTokens(Long userId);
+}
@@ -0,0 +1,71 @@
+package za.co.nemesisnet.portfolioforgebackend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import za.co.nemesisnet.portfolioforgebackend.event.UserChangedEvent;
+import za.co.nemesisnet.portfolioforgebackend.exception.ResourceNotFoundException;
+import za.co.nemesisnet.portfolioforgebackend.repository.UserRepository;
+
+import java.time.Duration;
+
+@Service
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationServiceImpl.class);
+
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // user ID -> current token version. Short TTL bounds how long a revocation on another node goes unnoticed.
+    private final Cache<Long, Integer> tokenVersions;
+
+    public TokenRevocationServiceImpl(UserRepository userRepository,
+                                      ApplicationEventPublisher eventPublisher,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${portfolioforge.security.token-version-cache.max-entries:10000}") long maxEntries,
+                                      @Value("${portfolioforge.security.token-version-cache.ttl-ms:30000}") long ttlMs) {
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.tokenVersions = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tokenVersions, "tokenVersions");
+    }
+
+    @Override
+    public boolean isTokenVersionCurrent(Long userId, int tokenVersion) {
+        // A deleted user yields null, which Caffeine doesn't cache, so the token keeps failing
+        Integer currentVersion = tokenVersions.get(userId, id -> userRepository.findTokenVersionById(id).orElse(null));
+        return currentVersion != null && currentVersion == tokenVersion;
+    }
+
+    @Override
+    @Transactional
+    public void revokeAllTokens(Long userId) {
+        if (userRepository.incrementTokenVersion(userId) == 0) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+        log.info("Revoked all tokens for user ID {}", userId);
+        eventPublisher.publishEvent(new UserChangedEvent(userId, null)); // Bulk update: the entity listener doesn't see it
+    }
+
+    /**
+     * Drops the cached version once the change has committed, so the next check reads the new value.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        tokenVersions.invalidate(event.userId());
+    }
+}
@@ -9,33 +9,51 @@ import za.co.nemesisnet.portfolioforgebackend.domain.User;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
+/**
+ * Immutable security principal. Holds a copy of the few User fields security needs
+ * (not the JPA entity), so it can also be built directly from JWT claims.
+ * Instances are cached and shared between requests, which is why this class deliberately
+ * does not implement CredentialsContainer (Spring Security would erase the cached password hash).
+ */
 public class UserDetailsImpl implements UserDetails {
 
-    private final User user; // Store the original User entity
-
     @Getter // Lombok getter for ID
     private final Long id; // Store ID for convenience
 
+    private final String username;
+    private final String password; // Hashed password; null when the principal was rebuilt from JWT claims
+    private final List<GrantedAuthority> authorities;
+
+    @Getter
+    private final int tokenVersion; // Tokens issued with an older version are rejected
+
     public UserDetailsImpl(User user) {
-        this.user = user;
-        this.id = user.getId(); // Set ID from user
+        this(user.getId(), user.getUsername(), user.getPassword(), user.getRole(), user.getTokenVersion());
+    }
+
+    public UserDetailsImpl(Long id, String username, String password, String role, int tokenVersion) {
+        this.id = id;
+        this.username = username;
+        this.password = password;
+        this.authorities = Collections.singletonList(new SimpleGrantedAuthority(role));
+        this.tokenVersion = tokenVersion;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        // Use the role from the wrapped User entity
-        return Collections.singletonList(new SimpleGrantedAuthority(user.getRole()));
+        return authorities;
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword(); // Get password from User entity
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return user.getUsername(); // Get username from User entity
+        return username;
     }
 
     // --- Account Status Flags (delegate to User entity if fields exist, otherwise return true) ---
@@ -0,0 +1,72 @@
+package za.co.nemesisnet.portfolioforgebackend.web;
+
+
+/**
+ * Minimal Accept-Encoding negotiation for responses that are stored pre-compressed.
+ * Each listed coding (or "*") carries a quality value, 1 if none is given; q=0 means "not acceptable".
+ */
+public final class AcceptEncoding {
+
+    private AcceptEncoding() {
+    }
+
+    /**
+     * Picks the content coding to send from those available, highest client quality first;
+     * on equal quality the earlier one in {@code available} wins, so list the smallest encoding first.
+     *
+     * @param acceptEncoding The request's Accept-Encoding header, or null if absent.
+     * @param available      Codings stored for the response, e.g. "br", "gzip"; null entries are skipped.
+     * @return The coding to send, or null to send the uncompressed body.
+     */
+    public static String preferred(String acceptEncoding, String... available) {
+        String best = null;
+        double bestQuality = 0.0;
+        for (String coding : available) {
+            if (coding == null) {
+                continue;
+            }
+            double quality = qualityOf(acceptEncoding, coding);
+            if (quality > bestQuality) {
+                best = coding;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+
+    // Quality of an explicit entry for the coding, else of "*", else 0
+    private static double qualityOf(String acceptEncoding, String coding) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return 0.0; // No header: send identity
+        }
+        double wildcard = 0.0;
+        for (String entry : acceptEncoding.split(",")) {
+            int paramsStart = entry.indexOf(';');
+            String name = (paramsStart < 0 ? entry : entry.substring(0, paramsStart)).trim();
+            double quality = paramsStart < 0 ? 1.0 : parseQuality(entry.substring(paramsStart + 1));
+            if (name.equalsIgnoreCase(coding)) {
+                return quality; // An explicit entry overrides "*"
+            }
+            if (name.equals("*")) {
+                wildcard = quality;
+            }
+        }
+        return wildcard;
+    }
+
+    // "q=0.5" (whitespace allowed); a missing or malformed q counts as 1
+    private static double parseQuality(String params) {
+        for (String param : params.split(";")) {
+            String trimmed = param.trim();
+            int equals = trimmed.indexOf('=');
+            if (equals > 0 && trimmed.substring(0, equals).trim().equalsIgnoreCase("q")) {
+                try {
+                    return Double.parseDouble(trimmed.substring(equals + 1).trim());
+                } catch (NumberFormatException e) {
+                    return 1.0;
+                }
+            }
+        }
+        return 1.0;
+    }
+}
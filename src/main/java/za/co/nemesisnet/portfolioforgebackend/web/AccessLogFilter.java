@@ -0,0 +1,82 @@
+package za.co.nemesisnet.portfolioforgebackend.web;
+
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One structured line per request on the 'portfolioforge.access' logger, written as key/value pairs
+ * (method, route, status, duration, client) so the log pipeline can index them. Only a sample of ordinary
+ * requests is logged; server errors and slow requests are always logged. Request counts and latencies for
+ * every request are in the http.server.requests metrics, so sampling loses no totals.
+ * Query strings and headers are never logged.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10) // Outermost, so the duration covers every other filter
+@ConditionalOnProperty(name = "portfolioforge.access-log.enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final Logger accessLog = LoggerFactory.getLogger("portfolioforge.access");
+
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public AccessLogFilter(@Value("${portfolioforge.access-log.sample-rate:0.01}") double sampleRate,
+                           @Value("${portfolioforge.access-log.slow-threshold-ms:1000}") long slowThresholdMs) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (!accessLog.isInfoEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            int status = response.getStatus();
+            String reason = status >= 500 ? "error"
+                    : elapsedNanos >= slowThresholdNanos ? "slow"
+                    : ThreadLocalRandom.current().nextDouble() < sampleRate ? "sampled"
+                    : null;
+            if (reason != null) {
+                Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                accessLog.atInfo()
+                        .addKeyValue("method", request.getMethod())
+                        .addKeyValue("path", request.getRequestURI())
+                        .addKeyValue("route", route != null ? route : "")
+                        .addKeyValue("status", status)
+                        .addKeyValue("durationMs", TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                        .addKeyValue("client", request.getRemoteAddr())
+                        .addKeyValue("logged", reason)
+                        .log("request");
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package za.co.nemesisnet.portfolioforgebackend.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the number of requests being processed at once. With platform threads Tomcat's worker pool
+ * is the natural limit; with virtual threads every request gets its own thread, and thousands of them
+ * would queue up inside Hikari and hold MySQL at its connection limit. Requests beyond the cap wait
+ * briefly for a permit, then get 503 with Retry-After instead of timing out deep in the stack.
+ * Runs ahead of Spring Security, so shed requests cost no token verification or user lookup.
+ * <p>
+ * Actuator endpoints are exempt: health probes must keep answering when the instance is saturated,
+ * or the orchestrator would restart it exactly when it is busiest. Async requests (e.g. the streaming
+ * bulk exports) keep their permit until the async processing completes, since that is when they stop
+ * holding a thread and a database connection.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+@ConditionalOnProperty(name = "portfolioforge.concurrency-limit.enabled", havingValue = "true")
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final String actuatorBasePath;
+    private final Counter rejections;
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry,
+                                  @Value("${portfolioforge.concurrency-limit.max-concurrent-requests:64}") int maxConcurrentRequests,
+                                  @Value("${portfolioforge.concurrency-limit.acquire-timeout-ms:1000}") long acquireTimeoutMs,
+                                  @Value("${management.endpoints.web.base-path:/actuator}") String actuatorBasePath) {
+        this.permits = new Semaphore(maxConcurrentRequests, true); // Fair: waiting requests are served in arrival order
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.actuatorBasePath = actuatorBasePath;
+        this.rejections = Counter.builder("portfolioforge.concurrency-limit.rejections")
+                .description("Requests rejected because the concurrency limit was reached")
+                .register(meterRegistry);
+        Gauge.builder("portfolioforge.concurrency-limit.available", permits, Semaphore::availablePermits)
+                .register(meterRegistry);
+        log.info("Request concurrency limited to {} (wait up to {} ms for a permit)", maxConcurrentRequests, acquireTimeoutMs);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String path = urlPathHelper.getPathWithinApplication(request);
+        return path.equals(actuatorBasePath) || path.startsWith(actuatorBasePath + "/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejections.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Server is busy");
+            return;
+        }
+
+        PermitRelease release = new PermitRelease();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(release); // Released when the async work finishes
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    // Releases the permit exactly once, whether the request ends on the original thread or asynchronously
+    private final class PermitRelease implements AsyncListener, Runnable {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void run() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this); // Async restarted from a dispatch: keep listening
+        }
+    }
+}
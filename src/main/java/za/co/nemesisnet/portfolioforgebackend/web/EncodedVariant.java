@@ -0,0 +1,38 @@
+package za.co.nemesisnet.portfolioforgebackend.web;
+
+
+import za.co.nemesisnet.portfolioforgebackend.service.PublicPortfolioSnapshot;
+
+/**
+ * The stored representation of a pre-encoded public response that is sent for a given Accept-Encoding.
+ * Used by both the servlet controller and the reactive handler, so they negotiate identically.
+ *
+ * @param body            Bytes to send; shared, never modify.
+ * @param etag            Strong ETag of this representation.
+ * @param contentEncoding "br" or "gzip", or null for plain JSON.
+ * @param negotiated      Whether compressed variants exist, i.e. the response must carry Vary: Accept-Encoding.
+ */
+public record EncodedVariant(byte[] body, String etag, String contentEncoding, boolean negotiated) {
+
+    /**
+     * Picks the variant the client prefers among those stored: Brotli, then gzip, then plain JSON.
+     *
+     * @param encoded        The encoded response body.
+     * @param acceptEncoding The request's Accept-Encoding header, or null if absent.
+     */
+    public static EncodedVariant select(PublicPortfolioSnapshot.EncodedBody encoded, String acceptEncoding) {
+        if (!encoded.hasBrotli() && !encoded.hasGzip()) {
+            return new EncodedVariant(encoded.json(), encoded.jsonEtag(), null, false);
+        }
+        String coding = AcceptEncoding.preferred(acceptEncoding,
+                encoded.hasBrotli() ? "br" : null,
+                encoded.hasGzip() ? "gzip" : null);
+        if ("br".equals(coding)) {
+            return new EncodedVariant(encoded.brotli(), encoded.brotliEtag(), "br", true);
+        }
+        if ("gzip".equals(coding)) {
+            return new EncodedVariant(encoded.gzip(), encoded.gzipEtag(), "gzip", true);
+        }
+        return new EncodedVariant(encoded.json(), encoded.jsonEtag(), null, true);
+    }
+}
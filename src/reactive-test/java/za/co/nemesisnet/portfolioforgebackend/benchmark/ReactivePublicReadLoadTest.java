@@ -0,0 +1,142 @@
+package za.co.nemesisnet.portfolioforgebackend.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import za.co.nemesisnet.portfolioforgebackend.PortfolioforgeBackendApplication;
+import za.co.nemesisnet.portfolioforgebackend.reactive.ReactivePublicServer;
+import za.co.nemesisnet.portfolioforgebackend.support.ApiClient;
+import za.co.nemesisnet.portfolioforgebackend.support.LoadGenerator;
+import za.co.nemesisnet.portfolioforgebackend.support.LoadTestDataSeeder;
+import za.co.nemesisnet.portfolioforgebackend.support.LoadTestDataSeeder.SeedData;
+import za.co.nemesisnet.portfolioforgebackend.support.LoadTestReport;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * Load test for the public read path with many concurrent viewers, comparing the servlet endpoint
+ * (Tomcat) with the reactive stack (Reactor Netty) for GET /{slug}/full; both serve the same snapshot cache.
+ * A non-blocking client keeps {@code benchmark.viewers} requests in flight at all times.
+ * <p>
+ * The warm run hits one cached portfolio. The cold run requests each of {@code benchmark.cold-portfolios}
+ * seeded portfolios once (each stack gets its own half), so every request is a snapshot miss: on the reactive
+ * stack those run blocking JPA on the small loader pool, which is what bounds cold-cache throughput there.
+ * Results are appended to target/load-test-results.csv, and the test fails when any run's error rate exceeds
+ * {@code loadtest.max-error-rate}.
+ *
+ * Run with: mvn -Preactive,benchmark test -Dtest=ReactivePublicReadLoadTest
+ * Raise the OS open-file limit (ulimit -n) above the viewer count first.
+ */
+@Tag("benchmark")
+class ReactivePublicReadLoadTest {
+
+    private static final int VIEWERS = Integer.getInteger("benchmark.viewers", 10_000);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 200_000);
+    private static final int COLD_PORTFOLIOS = Integer.getInteger("benchmark.cold-portfolios", 10_000);
+    // Below the reactive loader queue capacity, so a cold run measures the loader pool rather than 503 shedding
+    private static final int COLD_VIEWERS = Integer.getInteger("benchmark.cold-viewers", 500);
+    private static final String SLUG = "load-test-portfolio";
+
+    @Test
+    void manyConcurrentPublicViewers() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PortfolioforgeBackendApplication.class)
+                .profiles("h2")
+                .properties("server.port=0",
+                        "portfolioforge.reactive.enabled=true",
+                        "portfolioforge.reactive.port=0")
+                .run()) {
+            int servletPort = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            int reactivePort = context.getBean(ReactivePublicServer.class).getPort();
+            seed(new ApiClient(servletPort));
+            SeedData cold = new LoadTestDataSeeder(context.getBean(JdbcTemplate.class))
+                    .seed(COLD_PORTFOLIOS, 8, 12, 0, "load-test-password",
+                            context.getBean(PasswordEncoder.class).encode("load-test-password"));
+
+            String path = "/api/v1/portfolios/" + SLUG + "/full";
+            String servletBase = "http://localhost:" + servletPort + "/api/v1/portfolios/";
+            String reactiveBase = "http://localhost:" + reactivePort + "/api/v1/portfolios/";
+            int half = COLD_PORTFOLIOS / 2;
+            List<LoadGenerator.Result> results = List.of(
+                    run("servlet-tomcat", VIEWERS, REQUESTS, i -> "http://localhost:" + servletPort + path),
+                    run("reactive-netty", VIEWERS, REQUESTS, i -> "http://localhost:" + reactivePort + path),
+                    run("servlet-tomcat-cold", COLD_VIEWERS, half, i -> servletBase + cold.slug(i) + "/full"),
+                    run("reactive-netty-cold", COLD_VIEWERS, half, i -> reactiveBase + cold.slug(half + i) + "/full"));
+
+            LoadTestReport report = new LoadTestReport();
+            results.forEach(report::add);
+            report.write();
+
+            results.forEach(result -> LoadTestReport.assertErrorRate(result, LoadTestReport.MAX_ERROR_RATE));
+        }
+    }
+
+    private static void seed(ApiClient api) throws Exception {
+        String token = api.registerAndLogin("load-test-user", "load-test-password");
+        api.put("/api/v1/me/portfolio", token, ApiClient.mapper().createObjectNode()
+                .put("aboutMeText", "Load test portfolio")
+                .put("publicSlug", SLUG));
+        for (int i = 0; i < 10; i++) {
+            api.post("/api/v1/me/projects", token, ApiClient.mapper().createObjectNode()
+                    .put("title", "Project " + i)
+                    .put("description", "Load test project " + i)
+                    .put("displayOrder", i));
+            api.post("/api/v1/me/skills", token, ApiClient.mapper().createObjectNode()
+                    .put("name", "Skill " + i)
+                    .put("category", i % 2 == 0 ? "Backend" : "Frontend"));
+        }
+    }
+
+    private static LoadGenerator.Result run(String label, int viewers, int requests, IntFunction<String> urlForRequest) {
+        ConnectionProvider connections = ConnectionProvider.builder("load-test")
+                .maxConnections(viewers)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        HttpClient client = HttpClient.create(connections).responseTimeout(Duration.ofSeconds(30));
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong errors = new AtomicLong();
+
+        long start = System.nanoTime();
+        Flux.range(0, requests)
+                .flatMap(i -> {
+                    long sent = System.nanoTime();
+                    return client.get().uri(urlForRequest.apply(i))
+                            .responseSingle((response, body) -> body.then(Mono.just(response.status().code())))
+                            .doOnNext(status -> {
+                                if (status >= 400) {
+                                    errors.incrementAndGet();
+                                }
+                                latencies.add(System.nanoTime() - sent);
+                            })
+                            .onErrorResume(e -> {
+                                errors.incrementAndGet();
+                                latencies.add(System.nanoTime() - sent);
+                                return Mono.empty();
+                            });
+                }, viewers)
+                .blockLast();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        connections.disposeLater().block();
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        return new LoadGenerator.Result(label, viewers, sorted.length, errors.get(), sorted.length / seconds,
+                percentileMs(sorted, 0.50), percentileMs(sorted, 0.95), percentileMs(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+    }
+
+    private static double percentileMs(long[] sorted, double percentile) {
+        return sorted.length == 0 ? 0 : sorted[Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1)] / 1e6;
+    }
+}
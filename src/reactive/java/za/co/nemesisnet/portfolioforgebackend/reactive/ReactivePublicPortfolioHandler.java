@@ -0,0 +1,94 @@
+package za.co.nemesisnet.portfolioforgebackend.reactive;
+
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import za.co.nemesisnet.portfolioforgebackend.service.PublicPortfolioService;
+import za.co.nemesisnet.portfolioforgebackend.service.PublicPortfolioSnapshot;
+import za.co.nemesisnet.portfolioforgebackend.web.EncodedVariant;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * Functional handlers for the reactive public read stack. Same paths, bytes, ETags and 304/404 semantics as
+ * PublicPortfolioController, because both serve the same PublicPortfolioService snapshots.
+ */
+class ReactivePublicPortfolioHandler {
+
+    private static final String SLUG = "slugOrUsername";
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final PublicPortfolioService publicPortfolioService;
+    private final Scheduler snapshotLoader;
+
+    ReactivePublicPortfolioHandler(PublicPortfolioService publicPortfolioService, Scheduler snapshotLoader) {
+        this.publicPortfolioService = publicPortfolioService;
+        this.snapshotLoader = snapshotLoader;
+    }
+
+    Mono<ServerResponse> getPortfolio(ServerRequest request) {
+        return serve(request, PublicPortfolioSnapshot::portfolio);
+    }
+
+    Mono<ServerResponse> getProjects(ServerRequest request) {
+        return serve(request, PublicPortfolioSnapshot::projects);
+    }
+
+    Mono<ServerResponse> getSkills(ServerRequest request) {
+        return serve(request, PublicPortfolioSnapshot::skills);
+    }
+
+    Mono<ServerResponse> getFullPortfolio(ServerRequest request) {
+        return serve(request, PublicPortfolioSnapshot::document);
+    }
+
+    private Mono<ServerResponse> serve(ServerRequest request, Function<PublicPortfolioSnapshot, PublicPortfolioSnapshot.EncodedBody> resource) {
+        return snapshot(request.pathVariable(SLUG))
+                .map(resource)
+                .flatMap(body -> encodedOk(request, body))
+                .switchIfEmpty(ServerResponse.notFound().build())
+                // Loader queue full: shed the miss like the servlet side sheds saturated pools
+                .onErrorResume(RejectedExecutionException.class, e -> ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                        .build());
+    }
+
+    // A cached snapshot is served on the event loop. Building one runs blocking JPA queries, so a miss
+    // moves to the dedicated loader scheduler and never stalls the event loop. That pool is small and fixed
+    // (see ReactivePublicServer): a cold cache costs at most loader-threads blocked threads, not one per request.
+    private Mono<PublicPortfolioSnapshot> snapshot(String slug) {
+        return Mono.justOrEmpty(publicPortfolioService.getCachedSnapshot(slug))
+                .switchIfEmpty(Mono.fromCallable(() -> publicPortfolioService.getSnapshot(slug).orElse(null))
+                        .subscribeOn(snapshotLoader));
+    }
+
+    // 304 if If-None-Match matches the chosen variant's ETag, else 200 with its bytes (see PublicPortfolioController.encodedOk)
+    private static Mono<ServerResponse> encodedOk(ServerRequest request, PublicPortfolioSnapshot.EncodedBody body) {
+        EncodedVariant variant = EncodedVariant.select(body, request.headers().firstHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (request.exchange().checkNotModified(variant.etag())) {
+            return validators(ServerResponse.status(HttpStatus.NOT_MODIFIED), variant).build();
+        }
+        ServerResponse.BodyBuilder response = validators(ServerResponse.ok(), variant)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (variant.contentEncoding() != null) {
+            response.header(HttpHeaders.CONTENT_ENCODING, variant.contentEncoding());
+        }
+        return response.bodyValue(variant.body());
+    }
+
+    private static ServerResponse.BodyBuilder validators(ServerResponse.BodyBuilder response, EncodedVariant variant) {
+        response.cacheControl(CacheControl.noCache().cachePublic()).eTag(variant.etag());
+        if (variant.negotiated()) {
+            response.varyBy(HttpHeaders.ACCEPT_ENCODING);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,116 @@
+package za.co.nemesisnet.portfolioforgebackend.reactive;
+
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+import za.co.nemesisnet.portfolioforgebackend.service.PublicPortfolioService;
+
+import java.time.Duration;
+
+/**
+ * Optional non-blocking public read stack: WebFlux functional routes on a dedicated Reactor Netty
+ * server (its own port, a handful of event-loop threads). Runs side by side with the servlet application,
+ * which keeps serving every other endpoint; enable with portfolioforge.reactive.enabled.
+ *
+ * Responses come from the same PublicPortfolioService snapshots as the servlet endpoints, so both stacks send
+ * identical bytes and ETags and share one cache. Only built with the 'reactive' Maven profile (mvn -Preactive),
+ * which adds WebFlux and this source directory; the default build has no reactive dependencies.
+ * Only anonymous GETs are served, so Spring Security is not involved on this port.
+ *
+ * Only cache hits are non-blocking. A miss builds the snapshot with blocking JPA queries on a fixed pool of
+ * {@code loader-threads} threads (each holding a JDBC connection while it runs) with a bounded queue; when the
+ * queue is full the request gets 503. A cold or churning cache is therefore limited by that pool, not by the
+ * event loop.
+ */
+@Component
+@ConditionalOnProperty(name = "portfolioforge.reactive.enabled", havingValue = "true")
+public class ReactivePublicServer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactivePublicServer.class);
+
+    private static final String BASE_PATH = "/api/v1/portfolios/{slugOrUsername}";
+
+    private final PublicPortfolioService publicPortfolioService;
+    private final int port;
+    private final int workerThreads;
+    private final int loaderThreads;
+    private final int loaderQueueCapacity;
+
+    private LoopResources loopResources;
+    private Scheduler snapshotLoader;
+    private volatile DisposableServer server;
+
+    public ReactivePublicServer(PublicPortfolioService publicPortfolioService,
+                                @Value("${portfolioforge.reactive.port:8081}") int port,
+                                @Value("${portfolioforge.reactive.worker-threads:0}") int workerThreads,
+                                @Value("${portfolioforge.reactive.loader-threads:4}") int loaderThreads,
+                                @Value("${portfolioforge.reactive.loader-queue-capacity:1000}") int loaderQueueCapacity) {
+        this.publicPortfolioService = publicPortfolioService;
+        this.port = port;
+        this.workerThreads = workerThreads > 0 ? workerThreads : Math.max(2, Runtime.getRuntime().availableProcessors());
+        this.loaderThreads = Math.max(1, loaderThreads);
+        this.loaderQueueCapacity = Math.max(1, loaderQueueCapacity);
+    }
+
+    @Override
+    public synchronized void start() {
+        snapshotLoader = Schedulers.newBoundedElastic(loaderThreads, loaderQueueCapacity, "reactive-snapshot-loader", 60, true);
+        ReactivePublicPortfolioHandler handler = new ReactivePublicPortfolioHandler(publicPortfolioService, snapshotLoader);
+        RouterFunction<ServerResponse> routes = RouterFunctions.route()
+                .GET(BASE_PATH, handler::getPortfolio)
+                .GET(BASE_PATH + "/projects", handler::getProjects)
+                .GET(BASE_PATH + "/skills", handler::getSkills)
+                .GET(BASE_PATH + "/full", handler::getFullPortfolio)
+                .build();
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(routes);
+
+        loopResources = LoopResources.create("reactive-public", workerThreads, true);
+        server = HttpServer.create()
+                .port(port)
+                .runOn(loopResources)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("Reactive public read endpoints listening on port {} ({} event-loop threads, {} snapshot loader threads)",
+                server.port(), workerThreads, loaderThreads);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (server != null) {
+            server.disposeNow(Duration.ofSeconds(10));
+            server = null;
+        }
+        if (loopResources != null) {
+            loopResources.disposeLater().block(Duration.ofSeconds(10));
+        }
+        if (snapshotLoader != null) {
+            snapshotLoader.dispose();
+            snapshotLoader = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /** The bound port (useful when configured as 0 in tests), or -1 if not running. */
+    public int getPort() {
+        DisposableServer current = server;
+        return current != null ? current.port() : -1;
+    }
+}
@@ -0,0 +1,225 @@
+package za.co.nemesisnet.portfolioforgebackend.benchmark;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import za.co.nemesisnet.portfolioforgebackend.PortfolioforgeBackendApplication;
+import za.co.nemesisnet.portfolioforgebackend.support.ApiClient;
+import za.co.nemesisnet.portfolioforgebackend.support.LoadGenerator;
+import za.co.nemesisnet.portfolioforgebackend.support.LoadTestDataSeeder;
+import za.co.nemesisnet.portfolioforgebackend.support.LoadTestDataSeeder.SeedData;
+import za.co.nemesisnet.portfolioforgebackend.support.LoadTestReport;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load test of the servlet API against an in-memory H2 database (MySQL mode), so it needs no
+ * outside infrastructure. One application is booted and seeded with {@code loadtest.users} users, each with
+ * a portfolio, projects, skills and received messages; then each scenario runs a warm-up followed by a
+ * measured closed-loop run. Per scenario it reports throughput, p50/p95/p99 latency and the number of SQL
+ * statements Hibernate prepared per request, and appends the results to target/load-test-results.csv so
+ * runs before and after a change can be compared.
+ *
+ * Each scenario fails when its error rate or its SQL statements per request exceed a threshold. The h2
+ * profile also turns requests over their query budget into 500s, so budget regressions show up as errors.
+ *
+ * Run with: mvn -Pbenchmark test -Dtest=EndToEndLoadTest
+ * Single scenario: -Dtest=EndToEndLoadTest#loginStorm
+ * Tuning: -Dloadtest.users=500 -Dloadtest.concurrency=64 -Dloadtest.duration-seconds=60
+ * Thresholds: -Dloadtest.max-error-rate=0.01, or per scenario -Dloadtest.max-error-rate.login-storm=0.2
+ * and -Dloadtest.max-sql-per-request.project-crud=4
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class EndToEndLoadTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 200);
+    private static final int PROJECTS_PER_USER = Integer.getInteger("loadtest.projects-per-user", 8);
+    private static final int SKILLS_PER_USER = Integer.getInteger("loadtest.skills-per-user", 12);
+    private static final int MESSAGES_PER_USER = Integer.getInteger("loadtest.messages-per-user", 20);
+    private static final int AUTHENTICATED_USERS = Integer.getInteger("loadtest.authenticated-users", 50);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 32);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 5));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 20));
+    // Production-like cost, so the login storm shows real hashing pressure (the h2 profile uses 4)
+    private static final int BCRYPT_STRENGTH = Integer.getInteger("loadtest.bcrypt-strength", 10);
+
+    private static final String[] PUBLIC_PATHS = {"", "/projects", "/skills", "/full"};
+
+    private record ScenarioResult(LoadGenerator.Result load, long sqlStatements) {
+
+        double statementsPerRequest() {
+            return load.requests() == 0 ? 0 : (double) sqlStatements / load.requests();
+        }
+    }
+
+    private record DeletableProject(String ownerToken, long projectId) {}
+
+    private ConfigurableApplicationContext context;
+    private ApiClient api;
+    private Statistics statistics;
+    private SeedData seed;
+    private final List<String> tokens = new ArrayList<>();
+    private final List<List<Long>> projectIds = new ArrayList<>();
+    private final LoadTestReport report = new LoadTestReport();
+
+    @BeforeAll
+    void startAndSeed() throws Exception {
+        context = new SpringApplicationBuilder(PortfolioforgeBackendApplication.class)
+                .profiles("h2")
+                .properties("server.port=0",
+                        "portfolioforge.security.bcrypt.strength=" + BCRYPT_STRENGTH,
+                        "spring.jpa.properties.hibernate.generate_statistics=true",
+                        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN")
+                .run();
+        api = new ApiClient(context.getEnvironment().getRequiredProperty("local.server.port", Integer.class));
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        LoadTestDataSeeder seeder = new LoadTestDataSeeder(context.getBean(JdbcTemplate.class));
+        String password = "load-test-password";
+        seed = seeder.seed(USERS, PROJECTS_PER_USER, SKILLS_PER_USER, MESSAGES_PER_USER,
+                password, context.getBean(PasswordEncoder.class).encode(password));
+        for (int u = 0; u < Math.min(AUTHENTICATED_USERS, USERS); u++) {
+            String username = seed.usernames().get(u);
+            tokens.add(api.login(username, password));
+            projectIds.add(seeder.projectIds(username));
+        }
+    }
+
+    @AfterAll
+    void writeResultsAndStop() throws IOException {
+        if (context != null) {
+            context.close();
+        }
+        report.write();
+    }
+
+    // Anonymous visitors reading random portfolios through all four public endpoints
+    @Test
+    @Order(1)
+    void publicPortfolioBrowsing() throws Exception {
+        ScenarioResult result = measure("public-browsing", () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String slug = seed.slug(random.nextInt(USERS));
+            return api.get("/api/v1/portfolios/" + slug + PUBLIC_PATHS[random.nextInt(PUBLIC_PATHS.length)], null);
+        });
+        // Served from the snapshot cache once warmed up, so almost no request should reach the database
+        assertWithinThresholds(result, LoadTestReport.MAX_ERROR_RATE, 0.5);
+    }
+
+    // Logged-in owners managing their projects: mostly reads, some updates, creates and deletes
+    @Test
+    @Order(2)
+    void authenticatedProjectCrud() throws Exception {
+        // Every user's last project is deletable; each ID is handed out once so no delete ever hits a 404
+        ConcurrentLinkedQueue<DeletableProject> deletable = new ConcurrentLinkedQueue<>();
+        for (int u = 0; u < tokens.size(); u++) {
+            List<Long> ids = projectIds.get(u);
+            deletable.add(new DeletableProject(tokens.get(u), ids.get(ids.size() - 1)));
+        }
+
+        ScenarioResult result = measure("project-crud", () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int user = random.nextInt(tokens.size());
+            String token = tokens.get(user);
+            List<Long> ids = projectIds.get(user);
+            Long projectId = ids.get(random.nextInt(ids.size() - 1)); // Never the deletable one
+            int roll = random.nextInt(100);
+            if (roll < 50) {
+                return api.get("/api/v1/me/projects", token);
+            } else if (roll < 70) {
+                return api.get("/api/v1/me/projects/" + projectId, token);
+            } else if (roll < 88) {
+                return api.request("PUT", "/api/v1/me/projects/" + projectId, token, project("Updated project " + projectId, roll));
+            } else if (roll < 98) {
+                return api.request("POST", "/api/v1/me/projects", token, project("New project", roll));
+            }
+            DeletableProject victim = deletable.poll();
+            if (victim == null) {
+                return api.get("/api/v1/me/projects", token);
+            }
+            return api.request("DELETE", "/api/v1/me/projects/" + victim.projectId(), victim.ownerToken(), null);
+        });
+        assertWithinThresholds(result, LoadTestReport.MAX_ERROR_RATE, 5);
+    }
+
+    // Contact form spam spread over all portfolios
+    @Test
+    @Order(3)
+    void contactFormFlood() throws Exception {
+        ScenarioResult result = measure("contact-flood", () -> {
+            String slug = seed.slug(ThreadLocalRandom.current().nextInt(USERS));
+            ObjectNode body = ApiClient.mapper().createObjectNode()
+                    .put("senderName", "Load Tester")
+                    .put("senderEmail", "visitor@example.com")
+                    .put("subject", "Opportunity")
+                    .put("message", "I saw your portfolio and would like to talk about an opportunity.");
+            return api.request("POST", "/api/v1/portfolios/" + slug + "/contact", null, body);
+        });
+        assertWithinThresholds(result, LoadTestReport.MAX_ERROR_RATE, 3);
+    }
+
+    // Many users logging in at once; 503s from the bounded password hashing pool count as errors,
+    // so this scenario tolerates more of them than the others
+    @Test
+    @Order(4)
+    void loginStorm() throws Exception {
+        ScenarioResult result = measure("login-storm", () -> {
+            String username = seed.usernames().get(ThreadLocalRandom.current().nextInt(USERS));
+            return api.request("POST", "/api/v1/auth/login", null, ApiClient.mapper().createObjectNode()
+                    .put("usernameOrEmail", username)
+                    .put("password", seed.password()));
+        });
+        assertWithinThresholds(result, 0.10, 2);
+    }
+
+    private ScenarioResult measure(String label, Supplier<HttpRequest> requests) throws Exception {
+        LoadGenerator.run(label + "-warmup", CONCURRENCY, Duration.ZERO, WARMUP, requests);
+        statistics.clear(); // Count only the measured run
+        LoadGenerator.Result load = LoadGenerator.run(label, CONCURRENCY, Duration.ZERO, DURATION, requests);
+        ScenarioResult result = new ScenarioResult(load, statistics.getPrepareStatementCount());
+        report.add(load, result.statementsPerRequest());
+        return result;
+    }
+
+    private static void assertWithinThresholds(ScenarioResult result, double maxErrorRate, double maxStatementsPerRequest) {
+        String scenario = result.load().label();
+        double errorLimit = LoadTestReport.threshold("max-error-rate", scenario, maxErrorRate);
+        double statementLimit = LoadTestReport.threshold("max-sql-per-request", scenario, maxStatementsPerRequest);
+        LoadTestReport.assertErrorRate(result.load(), errorLimit);
+        assertTrue(result.statementsPerRequest() <= statementLimit, () -> String.format(Locale.ROOT,
+                "%s: %.2f SQL statements per request exceeds %.2f", scenario, result.statementsPerRequest(), statementLimit));
+    }
+
+    private static ObjectNode project(String title, int order) {
+        return ApiClient.mapper().createObjectNode()
+                .put("title", title)
+                .put("description", "Created by the load test")
+                .put("technologies", "Java, Spring Boot")
+                .put("displayOrder", order);
+    }
+}
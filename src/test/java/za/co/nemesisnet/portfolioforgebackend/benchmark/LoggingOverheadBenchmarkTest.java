@@ -0,0 +1,80 @@
+package za.co.nemesisnet.portfolioforgebackend.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import za.co.nemesisnet.portfolioforgebackend.PortfolioforgeBackendApplication;
+import za.co.nemesisnet.portfolioforgebackend.support.ApiClient;
+import za.co.nemesisnet.portfolioforgebackend.support.LoadGenerator;
+import za.co.nemesisnet.portfolioforgebackend.support.LoadTestReport;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Throughput of an authenticated endpoint (GET /api/v1/me/projects) with the old development logging
+ * (Spring Security at DEBUG, SQL echo, application INFO, every request in the access log, synchronous console)
+ * versus the 'prod' logging profile (asynchronous appenders, WARN for frameworks, 1% access-log sample).
+ * The JWT filter's own per-request cost before/after removing its log lines is measured by
+ * JwtAuthenticationFilterBenchmark in benchmarks/.
+ *
+ * Run with: mvn -Pbenchmark test -Dtest=LoggingOverheadBenchmarkTest
+ */
+@Tag("benchmark")
+class LoggingOverheadBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingOverheadBenchmarkTest.class);
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 32);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("benchmark.warmup-seconds", 10));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("benchmark.duration-seconds", 30));
+
+    @Test
+    void verboseLoggingVersusProdProfile() throws Exception {
+        LoadGenerator.Result verbose = measure("verbose-logging", new String[]{"h2"},
+                "logging.level.org.springframework.security=DEBUG",
+                "logging.level.za.co.nemesisnet.portfolioforgebackend=INFO",
+                "spring.jpa.show-sql=true",
+                "portfolioforge.access-log.enabled=true",
+                "portfolioforge.access-log.sample-rate=1.0");
+        LoadGenerator.Result prod = measure("prod-logging", new String[]{"h2", "prod"},
+                "portfolioforge.access-log.enabled=true");
+
+        LoadTestReport report = new LoadTestReport();
+        report.add(verbose);
+        report.add(prod);
+        report.write();
+        log.info("prod/verbose: throughput x{}, p99 x{}",
+                String.format(Locale.ROOT, "%.2f", prod.throughputPerSecond() / verbose.throughputPerSecond()),
+                String.format(Locale.ROOT, "%.2f", prod.p99Ms() / verbose.p99Ms()));
+
+        LoadTestReport.assertErrorRate(verbose, LoadTestReport.MAX_ERROR_RATE);
+        LoadTestReport.assertErrorRate(prod, LoadTestReport.MAX_ERROR_RATE);
+    }
+
+    private LoadGenerator.Result measure(String label, String[] profiles, String... properties) throws Exception {
+        String[] allProperties = new String[properties.length + 1];
+        allProperties[0] = "server.port=0";
+        System.arraycopy(properties, 0, allProperties, 1, properties.length);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PortfolioforgeBackendApplication.class)
+                .profiles(profiles)
+                .properties(allProperties)
+                .run()) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            ApiClient api = new ApiClient(port);
+            String token = api.registerAndLogin("logging-" + label, "benchmark-password");
+            for (int i = 0; i < 10; i++) {
+                api.post("/api/v1/me/projects", token, ApiClient.mapper().createObjectNode()
+                        .put("title", "Project " + i)
+                        .put("description", "Logging benchmark project " + i)
+                        .put("displayOrder", i));
+            }
+
+            return LoadGenerator.run(label, CONCURRENCY, WARMUP, DURATION, () -> api.get("/api/v1/me/projects", token));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package za.co.nemesisnet.portfolioforgebackend.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import za.co.nemesisnet.portfolioforgebackend.PortfolioforgeBackendApplication;
+import za.co.nemesisnet.portfolioforgebackend.support.ApiClient;
+import za.co.nemesisnet.portfolioforgebackend.support.LoadGenerator;
+import za.co.nemesisnet.portfolioforgebackend.support.LoadTestReport;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares throughput and p99 latency of an authenticated, JDBC-backed endpoint (GET /api/v1/me/projects)
+ * with platform threads versus the 'virtual-threads' profile. Each mode boots its own application on a
+ * random port against a fresh H2 database.
+ *
+ * Run with: mvn -Pjava21,benchmark test
+ * To measure against a real MySQL (where virtual threads actually park on network I/O), pass
+ * -Dspring.datasource.url=... -Dspring.datasource.driverClassName=com.mysql.cj.jdbc.Driver
+ * -Dspring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect and credentials.
+ */
+@Tag("benchmark")
+class VirtualThreadBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadBenchmarkTest.class);
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 256);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("benchmark.warmup-seconds", 10));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("benchmark.duration-seconds", 30));
+
+    @Test
+    void platformThreadsVersusVirtualThreads() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "Virtual threads require Java 21 (build with -Pjava21)");
+
+        LoadGenerator.Result platform = measure("platform-threads", "h2");
+        LoadGenerator.Result virtual = measure("virtual-threads", "h2", "virtual-threads");
+
+        LoadTestReport report = new LoadTestReport();
+        report.add(platform);
+        report.add(virtual);
+        report.write();
+        log.info("virtual/platform: throughput x{}, p99 x{}",
+                String.format(Locale.ROOT, "%.2f", virtual.throughputPerSecond() / platform.throughputPerSecond()),
+                String.format(Locale.ROOT, "%.2f", virtual.p99Ms() / platform.p99Ms()));
+
+        LoadTestReport.assertErrorRate(platform, LoadTestReport.MAX_ERROR_RATE);
+        LoadTestReport.assertErrorRate(virtual, LoadTestReport.MAX_ERROR_RATE);
+    }
+
+    private LoadGenerator.Result measure(String label, String... profiles) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PortfolioforgeBackendApplication.class)
+                .profiles(profiles)
+                .properties("server.port=0")
+                .run()) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            ApiClient api = new ApiClient(port);
+            String token = api.registerAndLogin("bench-" + label, "benchmark-password");
+            for (int i = 0; i < 20; i++) {
+                api.post("/api/v1/me/projects", token, ApiClient.mapper().createObjectNode()
+                        .put("title", "Project " + i)
+                        .put("description", "Benchmark project " + i)
+                        .put("technologies", "Java, Spring")
+                        .put("displayOrder", i));
+            }
+
+            return LoadGenerator.run(label, CONCURRENCY, WARMUP, DURATION, () -> api.get("/api/v1/me/projects", token));
+        }
+    }
+}
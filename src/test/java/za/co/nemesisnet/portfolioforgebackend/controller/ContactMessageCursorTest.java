@@ -0,0 +1,51 @@
+package za.co.nemesisnet.portfolioforgebackend.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static za.co.nemesisnet.portfolioforgebackend.support.MockMvcUsers.bearer;
+import static za.co.nemesisnet.portfolioforgebackend.support.MockMvcUsers.registerAndLogin;
+
+/**
+ * GET /api/v1/me/contact-messages/summary: a cursor the server did not issue is a 400, not a server error.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class ContactMessageCursorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void malformedCursorsAreBadRequests() throws Exception {
+        String token = registerAndLogin(mockMvc, "cursor-user");
+        String[] cursors = {
+                "not base64!",
+                encode("no-separator"),
+                encode("yesterday|1"),
+                encode("2024-01-01T00:00|abc")
+        };
+        for (String cursor : cursors) {
+            mockMvc.perform(get("/api/v1/me/contact-messages/summary").param("cursor", cursor)
+                            .header(HttpHeaders.AUTHORIZATION, bearer(token)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Invalid cursor: " + cursor));
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,149 @@
+package za.co.nemesisnet.portfolioforgebackend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static za.co.nemesisnet.portfolioforgebackend.support.MockMvcUsers.bearer;
+import static za.co.nemesisnet.portfolioforgebackend.support.MockMvcUsers.registerAndLogin;
+
+/**
+ * PATCH /api/v1/me/projects/order: the list must name each of the caller's projects exactly once (400, or 404 for an
+ * id that is not the caller's), and only projects whose position changed are written (counted with Hibernate's entity
+ * update statistics).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class ProjectReorderTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final AtomicInteger USERS = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String token;
+    private List<Long> ids;
+
+    @BeforeEach
+    void createFourProjects() throws Exception {
+        token = registerAndLogin(mockMvc, "reorder-user-" + USERS.incrementAndGet());
+        for (int i = 0; i < 4; i++) {
+            createProject(token, i);
+        }
+        ids = projectIds();
+    }
+
+    @Test
+    void unchangedOrderWritesNothing() throws Exception {
+        long updatesBefore = statistics().getEntityUpdateCount();
+
+        reorder(ids).andExpect(status().isOk()).andExpect(jsonPath("$.updatedCount").value(0));
+
+        assertEquals(updatesBefore, statistics().getEntityUpdateCount());
+    }
+
+    @Test
+    void onlyMovedProjectsAreWritten() throws Exception {
+        List<Long> swapped = new ArrayList<>(ids);
+        swapped.set(0, ids.get(1));
+        swapped.set(1, ids.get(0));
+        long updatesBefore = statistics().getEntityUpdateCount();
+
+        reorder(swapped).andExpect(status().isOk()).andExpect(jsonPath("$.updatedCount").value(2));
+
+        assertEquals(updatesBefore + 2, statistics().getEntityUpdateCount());
+        assertEquals(swapped, projectIds());
+    }
+
+    @Test
+    void listMissingAProjectIsRejected() throws Exception {
+        reorder(ids.subList(0, 3)).andExpect(status().isBadRequest());
+        assertEquals(ids, projectIds());
+    }
+
+    @Test
+    void duplicateIdsAreRejected() throws Exception {
+        reorder(List.of(ids.get(0), ids.get(0), ids.get(1), ids.get(2))).andExpect(status().isBadRequest());
+        assertEquals(ids, projectIds());
+    }
+
+    @Test
+    void anotherUsersProjectIsNotFound() throws Exception {
+        String otherToken = registerAndLogin(mockMvc, "reorder-other-" + USERS.incrementAndGet());
+        createProject(otherToken, 0);
+        Long foreignId = projectIds(otherToken).get(0);
+
+        reorder(List.of(ids.get(0), ids.get(1), ids.get(2), foreignId)).andExpect(status().isNotFound());
+        assertEquals(ids, projectIds());
+    }
+
+    @Test
+    void emptyListIsRejected() throws Exception {
+        reorder(List.of()).andExpect(status().isBadRequest());
+    }
+
+    private ResultActions reorder(List<Long> projectIds) throws Exception {
+        return mockMvc.perform(patch("/api/v1/me/projects/order").header(HttpHeaders.AUTHORIZATION, bearer(token))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(MAPPER.writeValueAsString(Map.of("projectIds", projectIds))));
+    }
+
+    private void createProject(String userToken, int displayOrder) throws Exception {
+        mockMvc.perform(post("/api/v1/me/projects").header(HttpHeaders.AUTHORIZATION, bearer(userToken))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(MAPPER.createObjectNode()
+                                .put("title", "Project " + displayOrder)
+                                .put("description", "Reorder test project")
+                                .put("displayOrder", displayOrder)
+                                .toString()))
+                .andExpect(status().isCreated());
+    }
+
+    private List<Long> projectIds() throws Exception {
+        return projectIds(token);
+    }
+
+    // IDs in display order, as the API returns them
+    private List<Long> projectIds(String userToken) throws Exception {
+        String body = mockMvc.perform(get("/api/v1/me/projects").header(HttpHeaders.AUTHORIZATION, bearer(userToken)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<Long> result = new ArrayList<>();
+        for (JsonNode project : MAPPER.readTree(body)) {
+            result.add(project.get("id").asLong());
+        }
+        return result;
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
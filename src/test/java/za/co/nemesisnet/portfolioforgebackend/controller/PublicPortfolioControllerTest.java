@@ -0,0 +1,131 @@
+package za.co.nemesisnet.portfolioforgebackend.controller;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static za.co.nemesisnet.portfolioforgebackend.support.MockMvcUsers.bearer;
+import static za.co.nemesisnet.portfolioforgebackend.support.MockMvcUsers.registerAndLogin;
+
+/**
+ * Variant selection and conditional GETs on the public endpoints: each stored representation (Brotli,
+ * gzip, plain JSON) has its own ETag, and If-None-Match is answered with 304 only for the ETag of the
+ * variant that would be sent.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PublicPortfolioControllerTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String SLUG = "etag-test-portfolio";
+    private static final String FULL = "/api/v1/portfolios/" + SLUG + "/full";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeAll
+    void seedPortfolioLargeEnoughToCompress() throws Exception {
+        String token = registerAndLogin(mockMvc, "etag-user");
+        mockMvc.perform(put("/api/v1/me/portfolio").header(HttpHeaders.AUTHORIZATION, bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(MAPPER.createObjectNode()
+                                .put("aboutMeText", "Conditional GET test portfolio")
+                                .put("publicSlug", SLUG)
+                                .toString()))
+                .andExpect(status().isOk());
+        for (int i = 0; i < 10; i++) { // Well above portfolioforge.public-snapshot.compress-min-bytes
+            mockMvc.perform(post("/api/v1/me/projects").header(HttpHeaders.AUTHORIZATION, bearer(token))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(MAPPER.createObjectNode()
+                                    .put("title", "Project " + i)
+                                    .put("description", "A project description long enough to be worth compressing, number " + i)
+                                    .put("displayOrder", i)
+                                    .toString()))
+                    .andExpect(status().isCreated());
+        }
+    }
+
+    @Test
+    void eachVariantHasItsOwnEtag() throws Exception {
+        MockHttpServletResponse brotli = fetch(get(FULL).header(HttpHeaders.ACCEPT_ENCODING, "br"));
+        MockHttpServletResponse gzip = fetch(get(FULL).header(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+        MockHttpServletResponse identity = fetch(get(FULL));
+
+        assertEquals(Brotli4jLoader.isAvailable() ? "br" : null, brotli.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("gzip", gzip.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertNull(identity.getHeader(HttpHeaders.CONTENT_ENCODING));
+
+        Set<String> etags = new HashSet<>(List.of(gzip.getHeader(HttpHeaders.ETAG), identity.getHeader(HttpHeaders.ETAG)));
+        if (Brotli4jLoader.isAvailable()) {
+            etags.add(brotli.getHeader(HttpHeaders.ETAG));
+            assertEquals(3, etags.size());
+        } else {
+            assertEquals(2, etags.size());
+        }
+        for (MockHttpServletResponse response : List.of(brotli, gzip, identity)) {
+            assertEquals(200, response.getStatus());
+            assertTrue(String.join(",", response.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"br", "gzip", "identity", "br, gzip;q=0.5"})
+    void matchingEtagGives304(String acceptEncoding) throws Exception {
+        MockHttpServletResponse first = fetch(get(FULL).header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding));
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        MockHttpServletResponse revalidated = fetch(get(FULL)
+                .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding)
+                .header(HttpHeaders.IF_NONE_MATCH, etag));
+        assertEquals(304, revalidated.getStatus());
+        assertEquals(etag, revalidated.getHeader(HttpHeaders.ETAG));
+        assertEquals(0, revalidated.getContentAsByteArray().length);
+    }
+
+    @Test
+    void etagOfAnotherVariantGivesFullResponse() throws Exception {
+        String gzipEtag = fetch(get(FULL).header(HttpHeaders.ACCEPT_ENCODING, "gzip")).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse identity = fetch(get(FULL).header(HttpHeaders.IF_NONE_MATCH, gzipEtag));
+        assertEquals(200, identity.getStatus());
+        assertTrue(identity.getContentAsByteArray().length > 0);
+    }
+
+    @Test
+    void unknownSlugIs404() throws Exception {
+        mockMvc.perform(get("/api/v1/portfolios/no-such-portfolio/full"))
+                .andExpect(status().isNotFound());
+    }
+
+    private MockHttpServletResponse fetch(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+}
@@ -0,0 +1,70 @@
+package za.co.nemesisnet.portfolioforgebackend.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import za.co.nemesisnet.portfolioforgebackend.exception.ServiceOverloadedException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch firstHashStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstHash = new CountDownLatch(1);
+    private final AtomicInteger hashes = new AtomicInteger();
+    private final ExecutorService callers = Executors.newSingleThreadExecutor();
+
+    // The first verification blocks until released, like a slow BCrypt hash occupying the only worker
+    private final PasswordEncoder slowDelegate = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            if (hashes.incrementAndGet() == 1) {
+                firstHashStarted.countDown();
+                try {
+                    releaseFirstHash.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    };
+
+    private final BoundedPasswordEncoder encoder =
+            new BoundedPasswordEncoder(slowDelegate, 1, 4, 100, new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        releaseFirstHash.countDown();
+        callers.shutdownNow();
+        encoder.shutdown();
+    }
+
+    @Test
+    void timedOutRequestsThatNeverStartedAreDropped() throws Exception {
+        callers.submit(() -> encoder.matches("first", "first"));
+        assertTrue(firstHashStarted.await(5, TimeUnit.SECONDS));
+
+        // Both wait behind the running hash, time out and leave nothing behind in the queue
+        assertThrows(ServiceOverloadedException.class, () -> encoder.matches("second", "second"));
+        assertThrows(ServiceOverloadedException.class, () -> encoder.matches("third", "third"));
+
+        releaseFirstHash.countDown();
+        assertTrue(encoder.matches("fourth", "fourth"));
+        assertEquals(2, hashes.get(), "Only the running hash and the fresh request should have been computed");
+    }
+}
@@ -0,0 +1,118 @@
+package za.co.nemesisnet.portfolioforgebackend.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RateLimitFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final RateLimitFilter filter = new RateLimitFilter(new RateLimitService(new SimpleMeterRegistry(), true, 1_000,
+            1, 2,     // contact per IP: 1, then 2/min
+            100, 10,  // contact per recipient
+            100, 5,   // login per IP
+            100, 1,   // login per username
+            1, 1),    // registration per IP: 1, then 1/min
+            objectMapper);
+
+    @Test
+    void overLimitRequestGets429WithRetryAfterAndNeverReachesTheChain() throws Exception {
+        assertPassed(post("/api/v1/auth/register", "10.0.0.1"));
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(post("/api/v1/auth/register", "10.0.0.1"), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(429, response.getStatus());
+        assertEquals("60", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, response.getContentType());
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertNotNull(body.get("message"));
+    }
+
+    @Test
+    void limitsArePerClientIp() throws Exception {
+        assertPassed(post("/api/v1/auth/register", "10.0.0.2"));
+        assertPassed(post("/api/v1/auth/register", "10.0.0.3"));
+    }
+
+    @Test
+    void contactSubmissionsAreLimitedPerIp() throws Exception {
+        assertPassed(post("/api/v1/portfolios/some-portfolio/contact", "10.0.0.4"));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(post("/api/v1/portfolios/other-portfolio/contact", "10.0.0.4"), response, new MockFilterChain());
+        assertEquals(429, response.getStatus());
+        assertEquals("30", response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void encodedPathsAreThrottledLikeThePlainPath() throws Exception {
+        assertPassed(post("/api/v1/auth/register", "10.0.0.6"));
+        assertRejected(post("/api/v1/auth/regist%65r", "10.0.0.6"));
+    }
+
+    @Test
+    void pathParametersDoNotBypassTheLimit() throws Exception {
+        assertPassed(post("/api/v1/auth/register;jsessionid=abc", "10.0.0.7"));
+        assertRejected(post("/api/v1/auth/register;x=y", "10.0.0.7"));
+    }
+
+    @Test
+    void recipientKeyIgnoresEncodingAndCase() throws Exception {
+        RateLimitFilter recipientLimited = new RateLimitFilter(new RateLimitService(new SimpleMeterRegistry(), true, 1_000,
+                100, 10, // contact per IP
+                1, 1,    // contact per recipient: 1, then 1/min
+                100, 5, 100, 1, 100, 1), objectMapper);
+
+        MockFilterChain chain = new MockFilterChain();
+        recipientLimited.doFilter(post("/api/v1/portfolios/john/contact", "10.0.0.8"), new MockHttpServletResponse(), chain);
+        assertNotNull(chain.getRequest());
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        recipientLimited.doFilter(post("/api/v1/portfolios/%4Aohn/contact", "10.0.0.9"), response, new MockFilterChain());
+        assertEquals(429, response.getStatus());
+    }
+
+    @Test
+    void onlyPostsAreThrottled() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletRequest get = new MockHttpServletRequest("GET", "/api/v1/auth/register");
+            get.setRemoteAddr("10.0.0.5");
+            assertPassed(get);
+        }
+    }
+
+    private void assertPassed(MockHttpServletRequest request) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        assertNotNull(chain.getRequest(), "Request should have been passed down the chain");
+        assertEquals(200, response.getStatus());
+    }
+
+    private void assertRejected(MockHttpServletRequest request) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        assertNull(chain.getRequest(), "Request should have been rejected");
+        assertEquals(429, response.getStatus());
+    }
+
+    private static MockHttpServletRequest post(String path, String clientIp) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setRemoteAddr(clientIp);
+        return request;
+    }
+}
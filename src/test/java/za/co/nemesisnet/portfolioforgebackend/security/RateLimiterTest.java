@@ -0,0 +1,77 @@
+package za.co.nemesisnet.portfolioforgebackend.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void capacityZeroDisablesTheLimit() {
+        RateLimiter limiter = limiter(0, 1);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(limiter.tryAcquire("client"));
+        }
+        assertEquals(0, rejections());
+    }
+
+    @Test
+    void keysHaveIndependentBuckets() {
+        RateLimiter limiter = limiter(1, 1);
+
+        assertTrue(limiter.tryAcquire("a"));
+        assertFalse(limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("b"));
+    }
+
+    @Test
+    void rejectionsAreCounted() {
+        RateLimiter limiter = limiter(2, 1);
+
+        limiter.tryAcquire("client");
+        limiter.tryAcquire("client");
+        limiter.tryAcquire("client");
+        limiter.tryAcquire("client");
+
+        assertEquals(2, rejections());
+    }
+
+    @Test
+    void idleBucketExpiryDoesNotLoosenTheLimit() {
+        RateLimiter limiter = limiter(2, 60); // Full again after 2 s, when the bucket may be evicted
+
+        assertTrue(limiter.tryAcquire("client"));
+        assertTrue(limiter.tryAcquire("client"));
+        assertFalse(limiter.tryAcquire("client"));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(3));
+        assertTrue(limiter.tryAcquire("client"));
+        assertTrue(limiter.tryAcquire("client"));
+        assertFalse(limiter.tryAcquire("client"));
+    }
+
+    @Test
+    void retryAfterIsTimeForOneToken() {
+        assertEquals(30, limiter(5, 2).retryAfterSeconds());
+        assertEquals(1, limiter(5, 120).retryAfterSeconds()); // Never less than a second
+        assertEquals(60, limiter(5, 0).retryAfterSeconds()); // A refill rate of 0 is treated as 1/min
+    }
+
+    private RateLimiter limiter(int capacity, int refillPerMinute) {
+        return new RateLimiter("test", capacity, refillPerMinute, 1_000, registry, clock::get);
+    }
+
+    private double rejections() {
+        return registry.get("portfolioforge.rate-limit.rejections").tag("limit", "test").counter().count();
+    }
+}
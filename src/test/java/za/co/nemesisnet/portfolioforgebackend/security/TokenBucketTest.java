@@ -0,0 +1,107 @@
+package za.co.nemesisnet.portfolioforgebackend.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void allowsBurstUpToCapacityThenRejects() {
+        TokenBucket bucket = new TokenBucket(3, 1, clock::get);
+
+        assertTrue(bucket.tryConsume());
+        assertTrue(bucket.tryConsume());
+        assertTrue(bucket.tryConsume());
+        assertFalse(bucket.tryConsume());
+    }
+
+    @Test
+    void refillsAtConfiguredRate() {
+        TokenBucket bucket = new TokenBucket(1, 60, clock::get); // One token per second
+        assertTrue(bucket.tryConsume());
+
+        advance(500);
+        assertFalse(bucket.tryConsume());
+        advance(600);
+        assertTrue(bucket.tryConsume());
+        assertFalse(bucket.tryConsume());
+    }
+
+    @Test
+    void rejectedAttemptsDoNotDelayRefill() {
+        TokenBucket bucket = new TokenBucket(1, 60, clock::get);
+        assertTrue(bucket.tryConsume());
+
+        for (int i = 0; i < 9; i++) {
+            advance(100);
+            assertFalse(bucket.tryConsume()); // Must not restart the partial refill
+        }
+        advance(200);
+        assertTrue(bucket.tryConsume());
+    }
+
+    @Test
+    void neverRefillsBeyondCapacity() {
+        TokenBucket bucket = new TokenBucket(2, 60, clock::get);
+        assertTrue(bucket.tryConsume());
+        assertTrue(bucket.tryConsume());
+
+        advance(TimeUnit.HOURS.toMillis(1));
+        assertTrue(bucket.tryConsume());
+        assertTrue(bucket.tryConsume());
+        assertFalse(bucket.tryConsume());
+    }
+
+    @Test
+    void concurrentConsumersNeverExceedCapacity() throws Exception {
+        int capacity = 10_000;
+        int threads = 16;
+        int attemptsPerThread = 1_000;
+        TokenBucket bucket = new TokenBucket(capacity, 1, clock::get); // Clock frozen: no refill during the race
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int granted = 0;
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        if (bucket.tryConsume()) {
+                            granted++;
+                        }
+                    }
+                    return granted;
+                }));
+            }
+            start.countDown();
+            int granted = 0;
+            for (Future<Integer> result : results) {
+                granted += result.get(30, TimeUnit.SECONDS);
+            }
+            assertEquals(capacity, granted);
+            assertFalse(bucket.tryConsume());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void advance(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
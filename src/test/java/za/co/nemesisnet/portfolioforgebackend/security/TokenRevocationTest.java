@@ -0,0 +1,57 @@
+package za.co.nemesisnet.portfolioforgebackend.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static za.co.nemesisnet.portfolioforgebackend.support.MockMvcUsers.bearer;
+import static za.co.nemesisnet.portfolioforgebackend.support.MockMvcUsers.login;
+import static za.co.nemesisnet.portfolioforgebackend.support.MockMvcUsers.registerAndLogin;
+
+/**
+ * In stateless mode the principal comes from the token's claims, so the token version is the only thing
+ * that can reject a still-unexpired token: POST /api/v1/auth/logout-all must make every earlier token fail.
+ */
+@SpringBootTest(properties = "portfolioforge.security.stateless-auth=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class TokenRevocationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void logoutAllRejectsTokensIssuedBefore() throws Exception {
+        String first = registerAndLogin(mockMvc, "revoke-user");
+        String second = login(mockMvc, "revoke-user");
+
+        mockMvc.perform(get("/api/v1/me/projects").header(HttpHeaders.AUTHORIZATION, bearer(first)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/v1/auth/logout-all").header(HttpHeaders.AUTHORIZATION, bearer(first)))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/me/projects").header(HttpHeaders.AUTHORIZATION, bearer(first)))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/v1/me/projects").header(HttpHeaders.AUTHORIZATION, bearer(second)))
+                .andExpect(status().isUnauthorized());
+
+        // A new login carries the new version
+        String fresh = login(mockMvc, "revoke-user");
+        mockMvc.perform(get("/api/v1/me/projects").header(HttpHeaders.AUTHORIZATION, bearer(fresh)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void logoutAllRequiresAuthentication() throws Exception {
+        mockMvc.perform(post("/api/v1/auth/logout-all"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,35 @@
+package za.co.nemesisnet.portfolioforgebackend.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TunableBCryptPasswordEncoderTest {
+
+    private final TunableBCryptPasswordEncoder encoder = new TunableBCryptPasswordEncoder(5);
+
+    @Test
+    void upgradesHashesWeakerThanTheTarget() {
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password")));
+    }
+
+    @Test
+    void keepsHashesAtTheTarget() {
+        assertFalse(encoder.upgradeEncoding(encoder.encode("password")));
+    }
+
+    @Test
+    void neverDowngradesStrongerHashes() {
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password")));
+    }
+
+    @Test
+    void parsesTheCostOfBCryptHashes() {
+        assertEquals(6, TunableBCryptPasswordEncoder.costOf(new BCryptPasswordEncoder(6).encode("password")));
+        assertEquals(-1, TunableBCryptPasswordEncoder.costOf("{noop}password"));
+        assertEquals(-1, TunableBCryptPasswordEncoder.costOf(null));
+    }
+}
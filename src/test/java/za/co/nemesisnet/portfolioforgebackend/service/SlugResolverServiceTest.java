@@ -0,0 +1,69 @@
+package za.co.nemesisnet.portfolioforgebackend.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import za.co.nemesisnet.portfolioforgebackend.domain.User;
+import za.co.nemesisnet.portfolioforgebackend.domain.dto.RegisterDto;
+import za.co.nemesisnet.portfolioforgebackend.repository.UserRepository;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The username fallback caches "not found" as well, so registering or renaming a user must evict it.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class SlugResolverServiceTest {
+
+    @Autowired
+    private SlugResolverService slugResolverService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void newUsernameResolvesRightAfterRegistration() {
+        assertTrue(slugResolverService.resolveUserIdBySlugOrUsername("resolver-new-user").isEmpty());
+
+        authService.registerUser(registration("resolver-new-user"));
+
+        Long userId = userRepository.findIdByUsername("resolver-new-user").orElseThrow();
+        assertEquals(Optional.of(userId), slugResolverService.resolveUserIdBySlugOrUsername("resolver-new-user"));
+    }
+
+    @Test
+    void renamedUserResolvesOnlyByTheNewUsername() {
+        authService.registerUser(registration("resolver-old-name"));
+        Long userId = userRepository.findIdByUsername("resolver-old-name").orElseThrow();
+        assertEquals(Optional.of(userId), slugResolverService.resolveUserIdBySlugOrUsername("resolver-old-name"));
+        assertTrue(slugResolverService.resolveUserIdBySlugOrUsername("resolver-new-name").isEmpty());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findById(userId).orElseThrow();
+            user.setUsername("resolver-new-name");
+        });
+
+        assertTrue(slugResolverService.resolveUserIdBySlugOrUsername("resolver-old-name").isEmpty());
+        assertEquals(Optional.of(userId), slugResolverService.resolveUserIdBySlugOrUsername("resolver-new-name"));
+    }
+
+    private static RegisterDto registration(String username) {
+        RegisterDto dto = new RegisterDto();
+        dto.setUsername(username);
+        dto.setEmail(username + "@example.com");
+        dto.setPassword("test-password-1");
+        return dto;
+    }
+}
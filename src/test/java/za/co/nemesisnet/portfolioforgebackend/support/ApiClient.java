@@ -0,0 +1,89 @@
+package za.co.nemesisnet.portfolioforgebackend.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * Small blocking client for seeding data through the public API in benchmarks and load tests.
+ */
+public final class ApiClient {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final String baseUrl;
+
+    public ApiClient(int port) {
+        this.baseUrl = "http://localhost:" + port;
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    /** Registers a user and logs in, returning the bearer token. */
+    public String registerAndLogin(String username, String password) throws IOException, InterruptedException {
+        post("/api/v1/auth/register", null, MAPPER.createObjectNode()
+                .put("username", username)
+                .put("email", username + "@example.com")
+                .put("password", password));
+        return login(username, password);
+    }
+
+    /** Logs an existing user in, returning the bearer token. */
+    public String login(String username, String password) throws IOException, InterruptedException {
+        HttpResponse<String> login = post("/api/v1/auth/login", null, MAPPER.createObjectNode()
+                .put("usernameOrEmail", username)
+                .put("password", password));
+        return MAPPER.readTree(login.body()).get("accessToken").asText();
+    }
+
+    public HttpResponse<String> post(String path, String token, JsonNode body) throws IOException, InterruptedException {
+        return send("POST", path, token, body);
+    }
+
+    public HttpResponse<String> put(String path, String token, JsonNode body) throws IOException, InterruptedException {
+        return send("PUT", path, token, body);
+    }
+
+    public HttpRequest get(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    /** Builds a request with a JSON body without sending it, e.g. for a load generator. */
+    public HttpRequest request(String method, String path, String token, JsonNode body) {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(body.toString());
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .method(method, publisher);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    private HttpResponse<String> send(String method, String path, String token, JsonNode body)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request(method, path, token, body), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(method + " " + path + " failed with " + response.statusCode() + ": " + response.body());
+        }
+        return response;
+    }
+}
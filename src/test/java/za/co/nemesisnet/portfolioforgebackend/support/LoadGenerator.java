@@ -0,0 +1,118 @@
+package za.co.nemesisnet.portfolioforgebackend.support;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Minimal closed-loop HTTP load generator for benchmarks: a fixed number of client threads each send
+ * the next request as soon as the previous response arrives. Latencies are recorded after a warm-up period.
+ */
+public final class LoadGenerator {
+
+    public record Result(String label, int concurrency, long requests, long errors,
+                         double throughputPerSecond, double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+
+        // A run that completed no requests at all counts as a total failure
+        public double errorRate() {
+            return requests == 0 ? 1.0 : (double) errors / requests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-24s concurrency=%4d requests=%8d errors=%6d throughput=%9.1f/s p50=%7.2fms p95=%7.2fms p99=%7.2fms max=%8.2fms",
+                    label, concurrency, requests, errors, throughputPerSecond, p50Ms, p95Ms, p99Ms, maxMs);
+        }
+    }
+
+    private LoadGenerator() {
+    }
+
+    public static Result run(String label, int concurrency, Duration warmup, Duration duration,
+                             Supplier<HttpRequest> requests) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> worker(client, requests, measureFrom, measureUntil)));
+            }
+
+            // Per worker: latencies in nanos, with the error count stored in the last slot
+            List<long[]> perWorker = new ArrayList<>();
+            for (Future<long[]> future : futures) {
+                perWorker.add(future.get());
+            }
+            int total = perWorker.stream().mapToInt(latencies -> latencies.length - 1).sum();
+            long errors = perWorker.stream().mapToLong(latencies -> latencies[latencies.length - 1]).sum();
+            long[] all = new long[total];
+            int offset = 0;
+            for (long[] latencies : perWorker) {
+                System.arraycopy(latencies, 0, all, offset, latencies.length - 1);
+                offset += latencies.length - 1;
+            }
+            Arrays.sort(all);
+
+            double seconds = duration.toNanos() / 1e9;
+            return new Result(label, concurrency, total, errors, total / seconds,
+                    percentileMs(all, 0.50), percentileMs(all, 0.95), percentileMs(all, 0.99), total == 0 ? 0 : all[total - 1] / 1e6);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private static long[] worker(HttpClient client, Supplier<HttpRequest> requests, long measureFrom, long measureUntil) {
+        long[] latencies = new long[1024];
+        int count = 0;
+        long errors = 0;
+        while (true) {
+            long start = System.nanoTime();
+            if (start >= measureUntil) {
+                break;
+            }
+            boolean ok;
+            try {
+                HttpResponse<Void> response = client.send(requests.get(), HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() < 400;
+            } catch (Exception e) {
+                ok = false;
+            }
+            long end = System.nanoTime();
+            if (start < measureFrom) {
+                continue; // Warm-up
+            }
+            if (!ok) {
+                errors++;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = end - start;
+        }
+        long[] result = Arrays.copyOf(latencies, count + 1);
+        result[count] = errors;
+        return result;
+    }
+
+    private static double percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,95 @@
+package za.co.nemesisnet.portfolioforgebackend.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seeds users with portfolios, projects, skills and received messages straight through JDBC batches.
+ * Going through the API would hash a password per user and take minutes for a realistic data set;
+ * every user here shares one pre-computed hash instead.
+ */
+public final class LoadTestDataSeeder {
+
+    /** What was seeded; usernames double as public slugs ("load-user-17"). */
+    public record SeedData(List<String> usernames, String password, int projectsPerUser, int skillsPerUser,
+                           int messagesPerUser) {
+
+        public String slug(int userIndex) {
+            return usernames.get(userIndex);
+        }
+    }
+
+    private static final String[] TECHNOLOGIES = {"Java, Spring Boot, MySQL", "TypeScript, React", "Go, gRPC, PostgreSQL",
+            "Python, Django", "Kotlin, Ktor", "Rust, Tokio"};
+    private static final String[] SKILL_CATEGORIES = {"Backend", "Frontend", "Database", "DevOps"};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LoadTestDataSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public SeedData seed(int users, int projectsPerUser, int skillsPerUser, int messagesPerUser,
+                         String password, String encodedPassword) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<String> usernames = new ArrayList<>(users);
+        List<Object[]> userRows = new ArrayList<>(users);
+        for (int u = 0; u < users; u++) {
+            String username = "load-user-" + u;
+            usernames.add(username);
+            userRows.add(new Object[]{username, username + "@example.com", encodedPassword, "ROLE_USER", 0, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (username, email, password, role, token_version, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", userRows);
+
+        List<Long> userIds = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE username LIKE 'load-user-%' ORDER BY id", Long.class);
+
+        List<Object[]> portfolioRows = new ArrayList<>(users);
+        List<Object[]> projectRows = new ArrayList<>(users * projectsPerUser);
+        List<Object[]> skillRows = new ArrayList<>(users * skillsPerUser);
+        List<Object[]> messageRows = new ArrayList<>(users * messagesPerUser);
+        for (int u = 0; u < users; u++) {
+            Long userId = userIds.get(u);
+            String username = usernames.get(u);
+            portfolioRows.add(new Object[]{
+                    "Hi, I am " + username + ". " + "I build reliable backend systems and enjoy performance work. ".repeat(6),
+                    "https://example.com/" + username + "/resume.pdf", "https://linkedin.com/in/" + username,
+                    "https://github.com/" + username, username + "@example.com", username, now, userId});
+            for (int p = 0; p < projectsPerUser; p++) {
+                projectRows.add(new Object[]{"Project " + p + " of " + username,
+                        "A realistic description of project " + p + ". " + "It solved a real problem for real users. ".repeat(4),
+                        TECHNOLOGIES[p % TECHNOLOGIES.length], "https://example.com/img/" + u + "-" + p + ".png",
+                        "https://example.com/" + username + "/" + p, "https://github.com/" + username + "/project-" + p,
+                        p, now, now, userId});
+            }
+            for (int s = 0; s < skillsPerUser; s++) {
+                skillRows.add(new Object[]{"Skill " + s, SKILL_CATEGORIES[s % SKILL_CATEGORIES.length], "icon-" + s, userId});
+            }
+            for (int m = 0; m < messagesPerUser; m++) {
+                messageRows.add(new Object[]{"Sender " + m, "sender" + m + "@example.com", "Hello " + username,
+                        "I saw your portfolio and would like to talk about an opportunity. ".repeat(3),
+                        Timestamp.valueOf(LocalDateTime.now().minusMinutes(m)), m % 3 == 0, userId});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO portfolios (about_me_text, resume_url, linkedin_url, github_url, contact_email, " +
+                "public_slug, last_updated_at, user_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", portfolioRows);
+        jdbcTemplate.batchUpdate("INSERT INTO projects (title, description, technologies, image_url, live_url, repo_url, " +
+                "display_order, created_at, updated_at, user_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", projectRows);
+        jdbcTemplate.batchUpdate("INSERT INTO skills (name, category, icon, user_id) VALUES (?, ?, ?, ?)", skillRows);
+        jdbcTemplate.batchUpdate("INSERT INTO contact_messages (sender_name, sender_email, subject, message, submission_date, " +
+                "is_read, recipient_user_id) VALUES (?, ?, ?, ?, ?, ?, ?)", messageRows);
+
+        return new SeedData(List.copyOf(usernames), password, projectsPerUser, skillsPerUser, messagesPerUser);
+    }
+
+    /** IDs of the given user's projects, for scenarios that address projects individually. */
+    public List<Long> projectIds(String username) {
+        return jdbcTemplate.queryForList("SELECT p.id FROM projects p JOIN users u ON u.id = p.user_id " +
+                "WHERE u.username = ? ORDER BY p.id", Long.class, username);
+    }
+}
@@ -0,0 +1,78 @@
+package za.co.nemesisnet.portfolioforgebackend.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Collects load-test results, logs each one and appends them to target/load-test-results.csv so runs
+ * before and after a change can be compared. Also holds the thresholds the load tests gate on.
+ */
+public final class LoadTestReport {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestReport.class);
+
+    public static final Path RESULTS_FILE = Path.of("target", "load-test-results.csv");
+
+    // Share of failed requests (status >= 400 or I/O error) a measured run may have
+    public static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+
+    private static final String HEADER =
+            "timestamp,scenario,concurrency,requests,errors,throughput_per_s,p50_ms,p95_ms,p99_ms,max_ms,sql_per_request\n";
+
+    private final List<String> rows = new ArrayList<>();
+    private final String timestamp = Instant.now().toString();
+
+    public void add(LoadGenerator.Result result) {
+        log.info("{}", result);
+        rows.add(row(result, ""));
+    }
+
+    public void add(LoadGenerator.Result result, double statementsPerRequest) {
+        log.info("{} sql/request={}", result, String.format(Locale.ROOT, "%.2f", statementsPerRequest));
+        rows.add(row(result, String.format(Locale.ROOT, "%.2f", statementsPerRequest)));
+    }
+
+    public void write() throws IOException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Files.createDirectories(RESULTS_FILE.getParent());
+        StringBuilder csv = new StringBuilder();
+        if (Files.notExists(RESULTS_FILE)) {
+            csv.append(HEADER);
+        }
+        rows.forEach(csv::append);
+        Files.writeString(RESULTS_FILE, csv, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        log.info("Appended {} load-test result(s) to {}", rows.size(), RESULTS_FILE.toAbsolutePath());
+        rows.clear();
+    }
+
+    // Per-scenario threshold, overridable with -Dloadtest.<name>.<scenario>=...
+    public static double threshold(String name, String scenario, double defaultValue) {
+        String value = System.getProperty("loadtest." + name + "." + scenario);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+    public static void assertErrorRate(LoadGenerator.Result result, double maxErrorRate) {
+        assertTrue(result.errorRate() <= maxErrorRate, () -> String.format(Locale.ROOT,
+                "%s: error rate %.4f exceeds %.4f (%d of %d requests failed)", result.label(),
+                result.errorRate(), maxErrorRate, result.errors(), result.requests()));
+    }
+
+    private String row(LoadGenerator.Result load, String statementsPerRequest) {
+        return String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%s%n", timestamp, load.label(),
+                load.concurrency(), load.requests(), load.errors(), load.throughputPerSecond(),
+                load.p50Ms(), load.p95Ms(), load.p99Ms(), load.maxMs(), statementsPerRequest);
+    }
+}
@@ -0,0 +1,51 @@
+package za.co.nemesisnet.portfolioforgebackend.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Registers and logs in users through the real auth endpoints for MockMvc tests.
+ */
+public final class MockMvcUsers {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String PASSWORD = "test-password-1";
+
+    private MockMvcUsers() {
+    }
+
+    /** Registers a user and logs in, returning the bearer token. */
+    public static String registerAndLogin(MockMvc mockMvc, String username) throws Exception {
+        mockMvc.perform(post("/api/v1/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(MAPPER.createObjectNode()
+                                .put("username", username)
+                                .put("email", username + "@example.com")
+                                .put("password", PASSWORD)
+                                .toString()))
+                .andExpect(status().isCreated());
+        return login(mockMvc, username);
+    }
+
+    /** Logs an existing user in, returning the bearer token. */
+    public static String login(MockMvc mockMvc, String username) throws Exception {
+        MvcResult login = mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(MAPPER.createObjectNode()
+                                .put("usernameOrEmail", username)
+                                .put("password", PASSWORD)
+                                .toString()))
+                .andExpect(status().isOk())
+                .andReturn();
+        return MAPPER.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+
+    public static String bearer(String token) {
+        return "Bearer " + token;
+    }
+}
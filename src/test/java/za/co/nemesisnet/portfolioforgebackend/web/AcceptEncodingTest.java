@@ -0,0 +1,65 @@
+package za.co.nemesisnet.portfolioforgebackend.web;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AcceptEncodingTest {
+
+    @Test
+    void missingOrEmptyHeaderMeansIdentity() {
+        assertNull(AcceptEncoding.preferred(null, "br", "gzip"));
+        assertNull(AcceptEncoding.preferred("", "br", "gzip"));
+    }
+
+    @Test
+    void equalQualityPrefersEarlierAvailableCoding() {
+        assertEquals("br", AcceptEncoding.preferred("gzip, deflate, br", "br", "gzip"));
+        assertEquals("gzip", AcceptEncoding.preferred("br, gzip", "gzip", "br"));
+    }
+
+    @Test
+    void higherQualityWins() {
+        assertEquals("gzip", AcceptEncoding.preferred("br;q=0.5, gzip;q=0.8", "br", "gzip"));
+        assertEquals("gzip", AcceptEncoding.preferred("br;q=0.5, gzip", "br", "gzip"));
+    }
+
+    @Test
+    void zeroQualityIsNotAcceptable() {
+        assertEquals("gzip", AcceptEncoding.preferred("br;q=0, gzip", "br", "gzip"));
+        assertNull(AcceptEncoding.preferred("br;q=0, gzip;q=0.0", "br", "gzip"));
+    }
+
+    @Test
+    void wildcardCoversUnlistedCodingsButExplicitEntriesOverrideIt() {
+        assertEquals("br", AcceptEncoding.preferred("*", "br", "gzip"));
+        assertEquals("gzip", AcceptEncoding.preferred("*;q=0.1, gzip", "br", "gzip"));
+        assertEquals("gzip", AcceptEncoding.preferred("br;q=0, *", "br", "gzip"));
+        assertNull(AcceptEncoding.preferred("*;q=0", "br", "gzip"));
+    }
+
+    @Test
+    void unavailableCodingsAreSkipped() {
+        assertEquals("gzip", AcceptEncoding.preferred("br, gzip", null, "gzip"));
+        assertNull(AcceptEncoding.preferred("br", null, "gzip"));
+        assertNull(AcceptEncoding.preferred("gzip", null, null));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "GZIP|gzip",                   // Coding names are case-insensitive
+            " gzip ; q = 0.7 |gzip",       // Whitespace around names and parameters
+            "gzip;Q=1|gzip",               // Parameter name is case-insensitive
+            "gzip;q=abc|gzip",             // Malformed q counts as 1
+            "gzip;level=1|gzip",           // Other parameters are ignored
+            "gzip;;q=0.5|gzip",            // Empty parameter
+            ",,gzip,|gzip",                // Empty list elements
+            "deflate, identity|",          // Nothing available is acceptable
+    })
+    void toleratesUnusualAndMalformedHeaders(String header, String expected) {
+        assertEquals(expected, AcceptEncoding.preferred(header, "gzip"));
+    }
+}
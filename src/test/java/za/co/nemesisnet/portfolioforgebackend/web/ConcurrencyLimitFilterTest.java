@@ -0,0 +1,48 @@
+package za.co.nemesisnet.portfolioforgebackend.web;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class ConcurrencyLimitFilterTest {
+
+    @Test
+    void actuatorEndpointsBypassTheLimit() throws Exception {
+        ConcurrencyLimitFilter saturated = new ConcurrencyLimitFilter(new SimpleMeterRegistry(), 0, 10, "/actuator");
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        saturated.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, chain);
+        assertNotNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+
+        assertEquals(503, status(saturated, new MockHttpServletRequest("GET", "/api/v1/me/projects")));
+    }
+
+    @Test
+    void asyncRequestsHoldTheirPermitUntilCompletion() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(new SimpleMeterRegistry(), 1, 10, "/actuator");
+
+        MockHttpServletRequest export = new MockHttpServletRequest("GET", "/api/v1/me/projects/bulk");
+        export.setAsyncSupported(true);
+        filter.doFilter(export, new MockHttpServletResponse(), (request, response) -> request.startAsync());
+
+        // The dispatch has returned, but the streaming body is still being written
+        assertEquals(503, status(filter, new MockHttpServletRequest("GET", "/api/v1/me/projects")));
+
+        ((MockAsyncContext) export.getAsyncContext()).complete();
+        assertEquals(200, status(filter, new MockHttpServletRequest("GET", "/api/v1/me/projects")));
+    }
+
+    private static int status(ConcurrencyLimitFilter filter, MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+}